@@ -0,0 +1,105 @@
+package com.study.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.kafka.serialization.KafkaMessageDeserializer;
+import com.study.kafka.serialization.KafkaMessageSerializer;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.model.SerializationFormat;
+import com.study.messaging.serialization.MessageCodec;
+import com.study.messaging.serialization.MessageSerialization;
+import com.study.rabbitmq.serialization.CodecMessageConverter;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Pluggable codecs on their own and behind the Kafka serializer / AMQP converter adapters
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"JSON", "BINARY", "PROTOBUF"})
+    private SerializationFormat format;
+
+    @Param({"64", "1024"})
+    private int contentSize;
+
+    private MessageCodec codec;
+    private KafkaMessageSerializer kafkaSerializer;
+    private KafkaMessageDeserializer kafkaDeserializer;
+    private CodecMessageConverter rabbitConverter;
+    private Message kafkaMessage;
+    private Message rabbitMessage;
+    private byte[] kafkaPayload;
+    private RecordHeaders kafkaHeaders;
+    private org.springframework.amqp.core.Message rabbitPayload;
+
+    @Setup
+    public void setUp() {
+        String content = "x".repeat(contentSize);
+        long now = System.currentTimeMillis();
+        kafkaMessage = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content(content)
+                .format(MessageFormat.TEXT)
+                .destination("messaging-study-topic")
+                .timestamp(now)
+                .build();
+        rabbitMessage = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content(content)
+                .format(MessageFormat.TEXT)
+                .destination("messaging.study.key")
+                .timestamp(now)
+                .build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        MessageSerialization serialization = new MessageSerialization(objectMapper, format);
+
+        codec = serialization.getCodec();
+        kafkaSerializer = new KafkaMessageSerializer(serialization);
+        kafkaDeserializer = new KafkaMessageDeserializer(serialization);
+        rabbitConverter = new CodecMessageConverter(serialization);
+
+        kafkaHeaders = new RecordHeaders();
+        kafkaPayload = kafkaSerializer.serialize("messaging-study-topic", kafkaHeaders, kafkaMessage);
+        rabbitPayload = rabbitConverter.toMessage(rabbitMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return codec.encode(kafkaMessage);
+    }
+
+    @Benchmark
+    public Message codecDecode() {
+        return codec.decode(kafkaPayload);
+    }
+
+    @Benchmark
+    public byte[] kafkaSerialize() {
+        return kafkaSerializer.serialize("messaging-study-topic", new RecordHeaders(), kafkaMessage);
+    }
+
+    @Benchmark
+    public Message kafkaDeserialize() {
+        return kafkaDeserializer.deserialize("messaging-study-topic", kafkaHeaders, kafkaPayload);
+    }
+
+    @Benchmark
+    public org.springframework.amqp.core.Message rabbitToMessage() {
+        return rabbitConverter.toMessage(rabbitMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object rabbitFromMessage() {
+        return rabbitConverter.fromMessage(rabbitPayload);
+    }
+}
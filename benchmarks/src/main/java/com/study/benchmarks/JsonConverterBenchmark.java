@@ -0,0 +1,80 @@
+package com.study.benchmarks;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// The Spring JSON converters both POCs used before serialization became pluggable
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonConverterBenchmark {
+
+    @Param({"64", "1024"})
+    private int contentSize;
+
+    private JsonSerializer<Message> kafkaSerializer;
+    private JsonDeserializer<Message> kafkaDeserializer;
+    private Jackson2JsonMessageConverter rabbitConverter;
+    private Message kafkaMessage;
+    private Message rabbitMessage;
+    private byte[] kafkaPayload;
+    private org.springframework.amqp.core.Message rabbitPayload;
+
+    @Setup
+    public void setUp() {
+        String content = "x".repeat(contentSize);
+        long now = System.currentTimeMillis();
+        kafkaMessage = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content(content)
+                .format(MessageFormat.TEXT)
+                .destination("messaging-study-topic")
+                .timestamp(now)
+                .build();
+        rabbitMessage = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content(content)
+                .format(MessageFormat.TEXT)
+                .destination("messaging.study.key")
+                .timestamp(now)
+                .build();
+
+        kafkaSerializer = new JsonSerializer<>();
+        kafkaDeserializer = new JsonDeserializer<>(Message.class);
+        rabbitConverter = new Jackson2JsonMessageConverter("com.study.messaging.model");
+
+        kafkaPayload = kafkaSerializer.serialize("messaging-study-topic", kafkaMessage);
+        rabbitPayload = rabbitConverter.toMessage(rabbitMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public byte[] kafkaJsonSerialize() {
+        return kafkaSerializer.serialize("messaging-study-topic", kafkaMessage);
+    }
+
+    @Benchmark
+    public Message kafkaJsonDeserialize() {
+        return kafkaDeserializer.deserialize("messaging-study-topic", kafkaPayload);
+    }
+
+    @Benchmark
+    public org.springframework.amqp.core.Message rabbitJsonToMessage() {
+        return rabbitConverter.toMessage(rabbitMessage, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object rabbitJsonFromMessage() {
+        return rabbitConverter.fromMessage(rabbitPayload);
+    }
+}
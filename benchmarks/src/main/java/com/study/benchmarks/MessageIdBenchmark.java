@@ -0,0 +1,27 @@
+package com.study.benchmarks;
+
+import com.study.messaging.service.MessageIds;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-message ID generation in sendBulk; run with -t to see SecureRandom contention in randomUUID
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageIdBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedId() {
+        return MessageIds.next().toString();
+    }
+}
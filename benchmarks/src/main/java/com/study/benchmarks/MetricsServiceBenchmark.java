@@ -0,0 +1,64 @@
+package com.study.benchmarks;
+
+import com.study.messaging.model.MessageStats;
+import com.study.messaging.service.MetricsService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Producer, consumer and stats-polling threads hitting one MetricsService at the same time
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class MetricsServiceBenchmark {
+
+    private static final int ID_COUNT = 1 << 16;
+
+    private MetricsService metricsService;
+    private String[] messageIds;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String nextId(String[] messageIds) {
+            return messageIds[next++ & (ID_COUNT - 1)];
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        metricsService = new MetricsService(1 << 20, 60_000, 600, List.of());
+        messageIds = new String[ID_COUNT];
+        for (int i = 0; i < ID_COUNT; i++) {
+            messageIds[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void recordMessageSent(Cursor cursor) {
+        metricsService.recordMessageSent(cursor.nextId(messageIds), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void recordMessageReceived(Cursor cursor) {
+        long now = System.currentTimeMillis();
+        metricsService.recordMessageReceived(cursor.nextId(messageIds), now - 5, now);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public MessageStats getStats() {
+        return metricsService.getStats();
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.benchmarks;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.service.ReceivedMessageStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// Listener threads inserting while the UI polls, for the ring buffer and the queue it replaced
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class ReceivedMessageStoreBenchmark {
+
+    private static final int CAPACITY = 1000;
+    private static final int MESSAGE_COUNT = 1 << 12;
+
+    private ReceivedMessageStore store;
+    private ConcurrentLinkedQueue<Message> legacyQueue;
+    private Message[] messages;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Setup
+    public void setUp() {
+        store = new ReceivedMessageStore(CAPACITY);
+        legacyQueue = new ConcurrentLinkedQueue<>();
+        messages = new Message[MESSAGE_COUNT];
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages[i] = new Message("Message " + i, MessageFormat.TEXT);
+        }
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(3)
+    public void ringBufferInsert(Cursor cursor) {
+        store.add(messages[cursor.next++ & (MESSAGE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(1)
+    public ReceivedMessageStore.Page ringBufferReadNewest() {
+        return store.read(100, -1);
+    }
+
+    @Benchmark
+    @Group("legacyQueue")
+    @GroupThreads(3)
+    public void legacyQueueInsertTrim(Cursor cursor) {
+        legacyQueue.add(messages[cursor.next++ & (MESSAGE_COUNT - 1)]);
+        if (legacyQueue.size() > CAPACITY) {
+            legacyQueue.poll();
+        }
+    }
+
+    @Benchmark
+    @Group("legacyQueue")
+    @GroupThreads(1)
+    public List<Message> legacyQueueRead() {
+        return legacyQueue.stream()
+                .limit(100)
+                .toList();
+    }
+}
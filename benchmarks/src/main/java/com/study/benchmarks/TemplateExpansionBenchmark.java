@@ -0,0 +1,57 @@
+package com.study.benchmarks;
+
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.service.BulkMessageSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-message {index} expansion done by sendBulk before anything reaches the broker client
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TemplateExpansionBenchmark {
+
+    @Param({
+            "Message {index}",
+            "{\"id\": {index}, \"type\": \"order\", \"payload\": \"lorem ipsum dolor sit amet\", \"seq\": {index}}"
+    })
+    private String template;
+
+    private BulkMessageSource source;
+    private Message reused;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        BulkMessageRequest request = new BulkMessageRequest(1_000_000, template);
+        request.setFormat(MessageFormat.TEXT);
+        source = BulkMessageSource.of(request);
+        reused = source.newMessage();
+    }
+
+    // What sendBulk did before templates were compiled: a String.replace and a new message per send
+    @Benchmark
+    public Message replaceTemplate() {
+        return Message.builder()
+                .content(template.replace("{index}", String.valueOf(index++)))
+                .format(MessageFormat.TEXT)
+                .build();
+    }
+
+    @Benchmark
+    public Message buildBulkMessage() {
+        return source.build(index++);
+    }
+
+    // What the send loops do: refill one message per producer
+    @Benchmark
+    public Message fillReusedMessage() {
+        return source.fill(reused, index++);
+    }
+}
@@ -2,8 +2,10 @@ package com.study.kafka;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.study.kafka", "com.study.messaging"})
+@EnableScheduling
 public class KafkaApplication {
 
     public static void main(String[] args) {
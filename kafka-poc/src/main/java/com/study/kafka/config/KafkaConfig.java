@@ -1,6 +1,13 @@
 package com.study.kafka.config;
 
-import com.study.kafka.model.Message;
+import com.study.kafka.model.ConsumerSettings;
+import com.study.messaging.model.Message;
+import com.study.kafka.model.ProducerProfile;
+import com.study.kafka.serialization.KafkaMessageDeserializer;
+import com.study.kafka.serialization.KafkaMessageSerializer;
+import com.study.messaging.serialization.MessageSerialization;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -9,37 +16,141 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.support.LoggingProducerListener;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConfig {
 
     public static final String TOPIC_NAME = "messaging-study-topic";
 
+    private final MessageSerialization serialization;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.topic.partitions:6}")
+    private int partitions;
+
+    @Value("${kafka.topic.replicas:1}")
+    private int replicas;
+
+    @Value("${kafka.topic.extra-topics:}")
+    private String[] extraTopics;
+
+    @Value("${kafka.producer.profile:BALANCED}")
+    private ProducerProfile producerProfile;
+
+    @Value("${kafka.consumer.concurrency:1}")
+    private int concurrency;
+
+    @Value("${kafka.consumer.batch-listener:false}")
+    private boolean batchListener;
+
+    @Value("${kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${kafka.consumer.fetch-min-bytes:1}")
+    private int fetchMinBytes;
+
+    @Value("${kafka.consumer.fetch-max-wait-ms:500}")
+    private int fetchMaxWaitMs;
+
+    @Value("${kafka.consumer.max-partition-fetch-bytes:1048576}")
+    private int maxPartitionFetchBytes;
+
+    @Bean
+    public NewTopic messagingStudyTopic() {
+        return TopicBuilder.name(TOPIC_NAME)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    // Extra topics share the partition and replica settings so fan-out runs compare like for like
+    @Bean
+    public KafkaAdmin.NewTopics extraStudyTopics() {
+        return new KafkaAdmin.NewTopics(Arrays.stream(kafkaTopicNames())
+                .filter(name -> !TOPIC_NAME.equals(name))
+                .map(name -> TopicBuilder.name(name)
+                        .partitions(partitions)
+                        .replicas(replicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public String[] kafkaTopicNames() {
+        return Stream.concat(Stream.of(TOPIC_NAME), Arrays.stream(extraTopics))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    @Bean
+    public ConsumerSettings consumerSettings() {
+        return ConsumerSettings.builder()
+                .concurrency(concurrency)
+                .batchListener(batchListener)
+                .maxPollRecords(maxPollRecords)
+                .build();
+    }
+
     @Bean
     public ProducerFactory<String, Message> producerFactory() {
+        return producerFactory(producerProfile);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Message> kafkaTemplate() {
+        return kafkaTemplate(producerFactory());
+    }
+
+    @Bean
+    public KafkaProducerTemplates kafkaProducerTemplates() {
+        Map<ProducerProfile, KafkaTemplate<String, Message>> templates = new EnumMap<>(ProducerProfile.class);
+        for (ProducerProfile profile : ProducerProfile.values()) {
+            templates.put(profile, profile == producerProfile
+                    ? kafkaTemplate()
+                    : kafkaTemplate(producerFactory(profile)));
+        }
+        return new KafkaProducerTemplates(producerProfile, templates);
+    }
+
+    // Bulk sends reuse one Message per producer, so the payload in a failed record may already be a later
+    // message; the default listener's error log leaves it out
+    private KafkaTemplate<String, Message> kafkaTemplate(ProducerFactory<String, Message> factory) {
+        KafkaTemplate<String, Message> template = new KafkaTemplate<>(factory);
+        LoggingProducerListener<String, Message> listener = new LoggingProducerListener<>();
+        listener.setIncludeContents(false);
+        template.setProducerListener(listener);
+        return template;
+    }
+
+    private DefaultKafkaProducerFactory<String, Message> producerFactory(ProducerProfile profile) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    @Bean
-    public KafkaTemplate<String, Message> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        config.put(ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, profile.getBufferMemory());
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, profile.getMaxInFlightRequests());
+        config.put(ProducerConfig.CLIENT_ID_CONFIG, "kafka-poc-" + profile.name().toLowerCase());
+        return new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(), new KafkaMessageSerializer(serialization));
     }
 
     @Bean
@@ -47,14 +158,14 @@ public class KafkaConfig {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "kafka-poc-group");
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Message.class.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-        return new DefaultKafkaConsumerFactory<>(config);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumerSettings().getMaxPollRecords());
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        config.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, maxPartitionFetchBytes);
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new KafkaMessageDeserializer(serialization)));
     }
 
     @Bean
@@ -62,6 +173,17 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Message> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(consumerSettings().getConcurrency());
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Message> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Message> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(consumerSettings().getConcurrency());
+        factory.setBatchListener(true);
         return factory;
     }
 }
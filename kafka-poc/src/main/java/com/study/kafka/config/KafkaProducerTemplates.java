@@ -0,0 +1,45 @@
+package com.study.kafka.config;
+
+import com.study.messaging.model.Message;
+import com.study.kafka.model.ProducerProfile;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+
+// One KafkaTemplate per producer profile so bulk requests can pick their batching without reconfiguring
+public class KafkaProducerTemplates implements DisposableBean {
+
+    private final ProducerProfile defaultProfile;
+    private final Map<ProducerProfile, KafkaTemplate<String, Message>> templates;
+
+    public KafkaProducerTemplates(ProducerProfile defaultProfile,
+                                  Map<ProducerProfile, KafkaTemplate<String, Message>> templates) {
+        this.defaultProfile = defaultProfile;
+        this.templates = templates;
+    }
+
+    public ProducerProfile resolve(ProducerProfile requested) {
+        return requested != null ? requested : defaultProfile;
+    }
+
+    public KafkaTemplate<String, Message> get(ProducerProfile profile) {
+        return templates.get(resolve(profile));
+    }
+
+    @Override
+    public void destroy() {
+        // The default profile's factory is a bean and closed by the container
+        templates.forEach((profile, template) -> {
+            ProducerFactory<String, Message> producerFactory = template.getProducerFactory();
+            if (profile != defaultProfile && producerFactory instanceof DisposableBean disposable) {
+                try {
+                    disposable.destroy();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to close producer for profile " + profile, e);
+                }
+            }
+        });
+    }
+}
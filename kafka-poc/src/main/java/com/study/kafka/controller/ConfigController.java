@@ -1,6 +1,9 @@
 package com.study.kafka.controller;
 
 import com.study.kafka.config.KafkaConfig;
+import com.study.kafka.model.ConsumerSettings;
+import com.study.kafka.service.ConsumerTuningService;
+import com.study.kafka.service.ProducerTuningService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -15,25 +18,46 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ConfigController {
 
+    private final ProducerTuningService producerTuningService;
+    private final ConsumerTuningService consumerTuningService;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.topic.partitions:6}")
+    private int partitions;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> getConfig() {
         Map<String, Object> config = new HashMap<>();
         config.put("bootstrapServers", bootstrapServers);
         config.put("topics", Arrays.asList(KafkaConfig.TOPIC_NAME));
         config.put("consumerGroup", "kafka-poc-group");
+        config.put("partitions", partitions);
+        config.put("producer", producerTuningService.getSettings());
+        config.put("consumer", consumerTuningService.getSettings());
 
         return ResponseEntity.ok(config);
     }
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> updateConfig(@RequestBody Map<String, Object> config) {
-        return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "Configuration update not implemented in POC",
-                "receivedConfig", config
-        ));
+        try {
+            // Reject the whole request before anything is reconfigured
+            producerTuningService.validate(config);
+            consumerTuningService.validate(config);
+            Map<String, Object> producer = producerTuningService.update(config);
+            ConsumerSettings consumer = consumerTuningService.update(config);
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "producer", producer,
+                    "consumer", consumer
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.study.kafka.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumerSettings {
+    private int concurrency;
+    private boolean batchListener;
+    private int maxPollRecords;
+}
@@ -0,0 +1,20 @@
+package com.study.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Kafka-specific fields of a bulk request, read from BulkMessageRequest options
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KafkaBulkOptions {
+    private ProducerProfile producerProfile;
+    private List<String> topics;
+    private KeyStrategy keyStrategy;
+    private String keyField;
+}
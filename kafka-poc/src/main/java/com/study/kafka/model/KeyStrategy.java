@@ -0,0 +1,8 @@
+package com.study.kafka.model;
+
+public enum KeyStrategy {
+    RANDOM,
+    ROUND_ROBIN,
+    STICKY,
+    CONTENT_FIELD
+}
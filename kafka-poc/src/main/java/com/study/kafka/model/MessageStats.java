@@ -1,18 +0,0 @@
-package com.study.kafka.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class MessageStats {
-    private long totalSent;
-    private long totalReceived;
-    private double averageLatencyMs;
-    private double throughput;
-    private long lastMessageTimestamp;
-}
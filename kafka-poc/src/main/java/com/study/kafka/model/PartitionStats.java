@@ -0,0 +1,20 @@
+package com.study.kafka.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionStats {
+    private String topic;
+    private int partition;
+    private long sentCount;
+    private long receivedCount;
+    private long lastProducedOffset;
+    private long lastConsumedOffset;
+    private long lag;
+}
@@ -0,0 +1,20 @@
+package com.study.kafka.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProducerProfile {
+    // Send as soon as possible: small batches, no linger, no compression
+    LATENCY(16_384, 0, "none", 33_554_432L, 5),
+    BALANCED(65_536, 5, "lz4", 67_108_864L, 5),
+    // Fill large compressed batches; idempotence caps in-flight requests at 5
+    THROUGHPUT(262_144, 20, "zstd", 134_217_728L, 5);
+
+    private final int batchSize;
+    private final int lingerMs;
+    private final String compressionType;
+    private final long bufferMemory;
+    private final int maxInFlightRequests;
+}
@@ -0,0 +1,31 @@
+package com.study.kafka.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.serialization.MessageSerialization;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+
+@RequiredArgsConstructor
+public class KafkaMessageDeserializer implements Deserializer<Message> {
+
+    private final MessageSerialization serialization;
+
+    @Override
+    public Message deserialize(String topic, byte[] data) {
+        return data != null ? serialization.decode(data, null) : null;
+    }
+
+    @Override
+    public Message deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers.lastHeader(KafkaMessageSerializer.CONTENT_TYPE_HEADER);
+        return serialization.decode(data,
+                contentType != null ? new String(contentType.value(), StandardCharsets.UTF_8) : null);
+    }
+}
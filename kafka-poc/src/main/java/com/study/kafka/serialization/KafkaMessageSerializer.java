@@ -0,0 +1,30 @@
+package com.study.kafka.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.serialization.MessageSerialization;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+@RequiredArgsConstructor
+public class KafkaMessageSerializer implements Serializer<Message> {
+
+    public static final String CONTENT_TYPE_HEADER = "contentType";
+
+    private final MessageSerialization serialization;
+
+    @Override
+    public byte[] serialize(String topic, Message data) {
+        return data != null ? serialization.encode(data) : null;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Message data) {
+        headers.remove(CONTENT_TYPE_HEADER);
+        headers.add(CONTENT_TYPE_HEADER,
+                serialization.getCodec().contentType().getBytes(StandardCharsets.UTF_8));
+        return serialize(topic, data);
+    }
+}
@@ -0,0 +1,92 @@
+package com.study.kafka.service;
+
+import com.study.kafka.model.ConsumerSettings;
+import com.study.messaging.model.Message;
+import com.study.messaging.service.TuningValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsumerTuningService {
+
+    public static final String RECORD_LISTENER_ID = "recordListener";
+    public static final String BATCH_LISTENER_ID = "batchListener";
+
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ConsumerFactory<String, Message> consumerFactory;
+    private final ConsumerSettings consumerSettings;
+
+    public synchronized ConsumerSettings getSettings() {
+        return consumerSettings.toBuilder().build();
+    }
+
+    // Checks every consumer key without applying anything, so callers can validate all services first
+    public synchronized void validate(Map<String, Object> changes) {
+        resolve(changes);
+    }
+
+    public synchronized ConsumerSettings update(Map<String, Object> changes) {
+        ConsumerSettings updated = resolve(changes);
+        if (!updated.equals(consumerSettings)) {
+            apply(updated);
+        }
+        return getSettings();
+    }
+
+    private ConsumerSettings resolve(Map<String, Object> changes) {
+        ConsumerSettings updated = consumerSettings.toBuilder().build();
+        changes.forEach((key, value) -> {
+            switch (key) {
+                case "concurrency" -> updated.setConcurrency(TuningValues.toInt(key, value));
+                case "batchListener" -> updated.setBatchListener(TuningValues.toBoolean(value));
+                case "maxPollRecords" -> updated.setMaxPollRecords(TuningValues.toInt(key, value));
+                default -> {
+                    // Not a consumer setting; other keys are handled elsewhere
+                }
+            }
+        });
+        if (updated.getConcurrency() < 1 || updated.getMaxPollRecords() < 1) {
+            throw new IllegalArgumentException("concurrency and maxPollRecords must be positive");
+        }
+        return updated;
+    }
+
+    private void apply(ConsumerSettings updated) {
+        log.info("Applying consumer settings: {}", updated);
+        if (updated.getMaxPollRecords() != consumerSettings.getMaxPollRecords()) {
+            consumerFactory.updateConfigs(Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, updated.getMaxPollRecords()));
+        }
+
+        // Listener containers only pick up new concurrency and consumer configs on start
+        restart(RECORD_LISTENER_ID, updated.getConcurrency(), !updated.isBatchListener());
+        restart(BATCH_LISTENER_ID, updated.getConcurrency(), updated.isBatchListener());
+
+        consumerSettings.setConcurrency(updated.getConcurrency());
+        consumerSettings.setBatchListener(updated.isBatchListener());
+        consumerSettings.setMaxPollRecords(updated.getMaxPollRecords());
+    }
+
+    private void restart(String listenerId, int concurrency, boolean active) {
+        MessageListenerContainer listenerContainer = listenerRegistry.getListenerContainer(listenerId);
+        if (!(listenerContainer instanceof ConcurrentMessageListenerContainer<?, ?> container)) {
+            return;
+        }
+        if (container.isRunning()) {
+            container.stop();
+        }
+        container.setConcurrency(concurrency);
+        if (active) {
+            container.start();
+        }
+    }
+}
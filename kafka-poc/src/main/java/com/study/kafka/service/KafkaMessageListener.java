@@ -0,0 +1,47 @@
+package com.study.kafka.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.service.MessageConsumerService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class KafkaMessageListener {
+
+    private final MessageConsumerService consumerService;
+    private final PartitionTracker partitionTracker;
+
+    @KafkaListener(id = ConsumerTuningService.RECORD_LISTENER_ID, topics = "#{@kafkaTopicNames}", groupId = "kafka-poc-group",
+            autoStartup = "#{!${kafka.consumer.batch-listener:false}}")
+    public void consumeMessage(@Payload Message message,
+                               @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                               @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                               @Header(KafkaHeaders.OFFSET) long offset) {
+        partitionTracker.recordReceived(topic, partition, offset);
+        consumerService.consume(message);
+    }
+
+    @KafkaListener(id = ConsumerTuningService.BATCH_LISTENER_ID, topics = "#{@kafkaTopicNames}", groupId = "kafka-poc-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.consumer.batch-listener:false}")
+    public void consumeBatch(List<ConsumerRecord<String, Message>> records) {
+        List<Message> messages = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, Message> record : records) {
+            partitionTracker.recordReceived(record.topic(), record.partition(), record.offset());
+            // ErrorHandlingDeserializer leaves a null value for records it could not read
+            if (record.value() != null) {
+                messages.add(record.value());
+            }
+        }
+        consumerService.consumeBatch(messages);
+    }
+}
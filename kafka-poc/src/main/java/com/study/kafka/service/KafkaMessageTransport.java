@@ -0,0 +1,293 @@
+package com.study.kafka.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.kafka.config.KafkaConfig;
+import com.study.kafka.config.KafkaProducerTemplates;
+import com.study.kafka.model.KafkaBulkOptions;
+import com.study.kafka.model.ProducerProfile;
+import com.study.messaging.model.*;
+import com.study.messaging.service.AckLatencies;
+import com.study.messaging.service.BulkMessageSource;
+import com.study.messaging.service.BulkProgress;
+import com.study.messaging.service.BulkSendEngine;
+import com.study.messaging.service.MessageIds;
+import com.study.messaging.service.MetricsService;
+import com.study.messaging.service.TokenBucketRateLimiter;
+import com.study.messaging.transport.MessageTransport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaMessageTransport implements MessageTransport {
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+    private final KafkaTemplate<String, Message> kafkaTemplate;
+    private final KafkaProducerTemplates producerTemplates;
+    private final MetricsService metricsService;
+    private final PartitionTracker partitionTracker;
+    private final BulkSendEngine bulkSendEngine;
+    private final ProducerTuningService producerTuningService;
+    private final ConsumerTuningService consumerTuningService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "kafka";
+    }
+
+    @Override
+    public MessageSendResponse send(Message message) {
+        return send(message, kafkaTemplate, MessageKeySelector.RANDOM);
+    }
+
+    private MessageSendResponse send(Message message, KafkaTemplate<String, Message> template,
+                                     MessageKeySelector keySelector) {
+        if (!trySend(message, template, keySelector)) {
+            return MessageSendResponse.builder()
+                    .success(false)
+                    .build();
+        }
+
+        log.debug("Message sent successfully: {}", message.getMessageId());
+
+        return MessageSendResponse.builder()
+                .messageId(message.getMessageId())
+                .timestamp(message.getTimestamp())
+                .success(true)
+                .build();
+    }
+
+    // The bulk loops only need the outcome, not a response object per message
+    private boolean trySend(Message message, KafkaTemplate<String, Message> template,
+                            MessageKeySelector keySelector) {
+        // Bulk loops refill the message, so log from a copy taken before the send
+        String content = message.getContent();
+        try {
+            sendAsync(message, template, keySelector);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to send message: {}", content, e);
+            return false;
+        }
+    }
+
+    @Override
+    public int plannedSends(BulkMessageRequest request) {
+        return totalSends(request, resolveTopics(options(request)));
+    }
+
+    @Override
+    public Map<String, Object> applyScenario(BenchmarkScenario scenario) {
+        // Benchmarks publish with the default profile, whose factory is the one ProducerTuningService reconfigures
+        Map<String, Object> producerChanges = Map.of("acks", scenario.isDurable() ? "all" : "1");
+        Map<String, Object> consumerChanges = Map.of("concurrency", scenario.getConsumers());
+        consumerTuningService.validate(consumerChanges);
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("producer", producerTuningService.update(producerChanges));
+        settings.put("consumer", consumerTuningService.update(consumerChanges));
+        return settings;
+    }
+
+    @Override
+    public BulkMessageResponse sendBulk(BulkMessageRequest request, BulkProgress progress) {
+        KafkaBulkOptions options = options(request);
+        BulkSendMode mode = request.getMode() != null ? request.getMode() : BulkSendMode.SEQUENTIAL;
+        int maxInFlight = request.getMaxInFlight() > 0 ? request.getMaxInFlight() : DEFAULT_MAX_IN_FLIGHT;
+        ProducerProfile profile = producerTemplates.resolve(options.getProducerProfile());
+        KafkaTemplate<String, Message> template = producerTemplates.get(profile);
+        List<String> topics = resolveTopics(options);
+        MessageKeySelector keySelector = new MessageKeySelector(options.getKeyStrategy(), options.getKeyField(),
+                topic -> template.partitionsFor(topic).size());
+        int totalMessages = totalSends(request, topics);
+        AckLatencies ackLatencies = new AckLatencies();
+
+        log.info("Starting {} bulk send: {} messages to {}, producers={}, maxInFlight={}, profile={}, keys={}",
+                mode, request.getCount(), topics, request.getProducers(), maxInFlight, profile,
+                keySelector.getStrategy());
+
+        // One window shared by every producer, so maxInFlight bounds the whole run
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        // Payloads are generated here, before the clock starts
+        BulkMessageSource messages = BulkMessageSource.of(request);
+        long startTime = System.nanoTime();
+        List<ProducerResult> producerResults = bulkSendEngine.run(request, (fromIndex, toIndex, rateLimiter) ->
+                mode != BulkSendMode.SEQUENTIAL
+                        ? sendSlicePipelined(messages, template, keySelector, topics, fromIndex, toIndex,
+                                rateLimiter, inFlight, ackLatencies, progress)
+                        : sendSlice(messages, template, keySelector, topics, fromIndex, toIndex, rateLimiter,
+                                ackLatencies, progress));
+        long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        BulkMessageResponse response = BulkSendEngine.summarize(totalMessages, mode, request.getTargetRate(),
+                producerResults, durationMs, ackLatencies).build();
+        response.setDetail("producerProfile", profile);
+        response.setDetail("topics", topics);
+        response.setDetail("keyStrategy", keySelector.getStrategy());
+
+        log.info("Bulk send completed: {} success, {} failed, duration: {}ms, throughput: {} msg/s",
+                response.getSuccessCount(), response.getFailCount(), durationMs,
+                String.format("%.2f", response.getThroughput()));
+
+        return response;
+    }
+
+    private BulkSendEngine.SliceOutcome sendSlice(BulkMessageSource messages, KafkaTemplate<String, Message> template,
+                                                  MessageKeySelector keySelector, List<String> topics,
+                                                  int fromIndex, int toIndex, TokenBucketRateLimiter rateLimiter,
+                                                  AckLatencies ackLatencies, BulkProgress progress) {
+        int successCount = 0;
+        int failCount = 0;
+        Message message = messages.newMessage();
+
+        slice:
+        for (int i = fromIndex; i < toIndex && !Thread.currentThread().isInterrupted(); i++) {
+            messages.fill(message, i);
+            for (String topic : topics) {
+                long intendedAt = System.nanoTime();
+                if (rateLimiter != null) {
+                    try {
+                        intendedAt = rateLimiter.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break slice;
+                    }
+                }
+
+                message.setDestination(topic);
+                message.setIntendedTimestamp(BulkSendEngine.epochMillisAt(intendedAt));
+                ackLatencies.recordSend(intendedAt, System.nanoTime());
+                if (trySend(message, template, keySelector)) {
+                    successCount++;
+                    progress.recordSuccess();
+                } else {
+                    failCount++;
+                    progress.recordFailure();
+                }
+            }
+        }
+
+        return new BulkSendEngine.SliceOutcome(successCount, failCount);
+    }
+
+    private BulkSendEngine.SliceOutcome sendSlicePipelined(BulkMessageSource messages,
+                                                           KafkaTemplate<String, Message> template,
+                                                           MessageKeySelector keySelector, List<String> topics,
+                                                           int fromIndex, int toIndex,
+                                                           TokenBucketRateLimiter rateLimiter, Semaphore inFlight,
+                                                           AckLatencies ackLatencies, BulkProgress progress) {
+        // Released once per completed send of this slice, so the slice can wait for its own acks only
+        Semaphore completed = new Semaphore(0);
+        int awaiting = 0;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        Message message = messages.newMessage();
+
+        try {
+            for (int i = fromIndex; i < toIndex; i++) {
+                messages.fill(message, i);
+                for (String topic : topics) {
+                    // In open-loop mode the timeline keeps moving while this producer waits for in-flight room
+                    long intendedAt = rateLimiter != null ? rateLimiter.acquire() : System.nanoTime();
+                    inFlight.acquire();
+                    message.setDestination(topic);
+                    message.setIntendedTimestamp(BulkSendEngine.epochMillisAt(intendedAt));
+                    long sentAt = System.nanoTime();
+                    ackLatencies.recordSend(intendedAt, sentAt);
+                    // The message is refilled before the ack arrives, and the SendResult still points at it,
+                    // so the callback and the logs only use these copies
+                    String content = message.getContent();
+                    try {
+                        CompletableFuture<SendResult<String, Message>> future =
+                                sendAsync(message, template, keySelector);
+                        String messageId = message.getMessageId();
+                        future.whenComplete((result, ex) -> {
+                            if (ex == null) {
+                                ackLatencies.recordAck(intendedAt, sentAt, System.nanoTime());
+                                successCount.incrementAndGet();
+                                progress.recordSuccess();
+                            } else {
+                                log.error("Broker rejected message: {}", messageId, ex);
+                                failCount.incrementAndGet();
+                                progress.recordFailure();
+                            }
+                            inFlight.release();
+                            completed.release();
+                        });
+                        awaiting++;
+                    } catch (Exception e) {
+                        log.error("Failed to send message: {}", content, e);
+                        failCount.incrementAndGet();
+                        progress.recordFailure();
+                        inFlight.release();
+                    }
+                }
+            }
+            // Wait for every outstanding ack of this slice before reporting
+            completed.acquire(awaiting);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return new BulkSendEngine.SliceOutcome(successCount.get(), failCount.get());
+    }
+
+    private CompletableFuture<SendResult<String, Message>> sendAsync(Message message,
+                                                                     KafkaTemplate<String, Message> template,
+                                                                     MessageKeySelector keySelector) {
+        UUID id = MessageIds.next();
+        message.setMessageId(id.toString());
+        message.setTimestamp(System.currentTimeMillis());
+
+        String topic = message.getDestination() != null ?
+                message.getDestination() : KafkaConfig.TOPIC_NAME;
+
+        MessageKeySelector.Route route = keySelector.route(topic, message);
+        CompletableFuture<SendResult<String, Message>> future =
+                template.send(topic, route.partition(), route.key(), message);
+
+        metricsService.recordMessageSent(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+                message.getTimestamp());
+        future.thenAccept(result -> partitionTracker.recordSent(result.getRecordMetadata().topic(),
+                result.getRecordMetadata().partition(), result.getRecordMetadata().offset()));
+
+        return future;
+    }
+
+    private static int totalSends(BulkMessageRequest request, List<String> topics) {
+        try {
+            return Math.multiplyExact(request.getCount(), topics.size());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("count * topics exceeds " + Integer.MAX_VALUE + " sends");
+        }
+    }
+
+    private KafkaBulkOptions options(BulkMessageRequest request) {
+        return objectMapper.convertValue(request.getOptions(), KafkaBulkOptions.class);
+    }
+
+    private static List<String> resolveTopics(KafkaBulkOptions options) {
+        if (options.getTopics() == null) {
+            return List.of(KafkaConfig.TOPIC_NAME);
+        }
+        List<String> topics = options.getTopics().stream()
+                .filter(topic -> topic != null && !topic.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        return topics.isEmpty() ? List.of(KafkaConfig.TOPIC_NAME) : topics;
+    }
+}
@@ -0,0 +1,69 @@
+package com.study.kafka.service;
+
+import com.study.kafka.model.KeyStrategy;
+import com.study.messaging.model.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MessageKeySelector {
+
+    public static final MessageKeySelector RANDOM = new MessageKeySelector(KeyStrategy.RANDOM, null, topic -> 1);
+
+    private final KeyStrategy strategy;
+    private final Pattern fieldPattern;
+    private final ToIntFunction<String> partitionLookup;
+    private final Map<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+    private final AtomicLong next = new AtomicLong();
+
+    public MessageKeySelector(KeyStrategy strategy, String keyField, ToIntFunction<String> partitionLookup) {
+        this.strategy = strategy != null ? strategy : KeyStrategy.RANDOM;
+        // Matches "field": "value" or "field": 123 in JSON content
+        this.fieldPattern = keyField != null && !keyField.isBlank()
+                ? Pattern.compile("\"" + Pattern.quote(keyField.trim()) + "\"\\s*:\\s*(?:\"([^\"]*)\"|([^,}\\s]+))")
+                : null;
+        this.partitionLookup = partitionLookup;
+    }
+
+    public KeyStrategy getStrategy() {
+        return strategy;
+    }
+
+    public Route route(String topic, Message message) {
+        return switch (strategy) {
+            case RANDOM -> new Route(null, message.getMessageId());
+            // Explicit partition per send spreads load evenly regardless of key hashing
+            case ROUND_ROBIN -> new Route((int) (next.getAndIncrement() % partitionCount(topic)), null);
+            // No key and no partition lets the producer fill one batch per partition before switching
+            case STICKY -> new Route(null, null);
+            case CONTENT_FIELD -> new Route(null, contentKey(message));
+        };
+    }
+
+    private int partitionCount(String topic) {
+        return partitionCounts.computeIfAbsent(topic, name -> Math.max(1, partitionLookup.applyAsInt(name)));
+    }
+
+    // Without a field the whole content is the key, so identical payloads share a partition
+    private String contentKey(Message message) {
+        String content = message.getContent();
+        if (content == null) {
+            return message.getMessageId();
+        }
+        if (fieldPattern == null) {
+            return content;
+        }
+        Matcher matcher = fieldPattern.matcher(content);
+        if (!matcher.find()) {
+            return message.getMessageId();
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+
+    public record Route(Integer partition, String key) {
+    }
+}
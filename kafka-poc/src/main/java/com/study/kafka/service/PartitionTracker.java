@@ -0,0 +1,78 @@
+package com.study.kafka.service;
+
+import com.study.kafka.model.PartitionStats;
+import com.study.messaging.transport.TransportMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+@Component
+public class PartitionTracker implements TransportMetrics {
+
+    private final Map<String, Map<Integer, Counters>> topics = new ConcurrentHashMap<>();
+
+    public void recordSent(String topic, int partition, long offset) {
+        Counters counters = countersFor(topic, partition);
+        counters.sent.incrementAndGet();
+        counters.lastProducedOffset.accumulate(offset);
+    }
+
+    public void recordReceived(String topic, int partition, long offset) {
+        Counters counters = countersFor(topic, partition);
+        counters.received.incrementAndGet();
+        counters.lastConsumedOffset.accumulate(offset);
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        return Map.of("partitions", partitions());
+    }
+
+    public List<PartitionStats> partitions() {
+        return topics.entrySet().stream()
+                .flatMap(topic -> topic.getValue().entrySet().stream()
+                        .map(partition -> toStats(topic.getKey(), partition.getKey(), partition.getValue())))
+                .sorted(Comparator.comparing(PartitionStats::getTopic).thenComparingInt(PartitionStats::getPartition))
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        topics.clear();
+    }
+
+    private Counters countersFor(String topic, int partition) {
+        return topics.computeIfAbsent(topic, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(partition, number -> new Counters());
+    }
+
+    private static PartitionStats toStats(String topic, int partition, Counters counters) {
+        long produced = counters.lastProducedOffset.get();
+        long consumed = counters.lastConsumedOffset.get();
+        // Offsets give the real lag once both sides have seen the partition; until then fall back to counts
+        long lag = produced >= 0 && consumed >= 0
+                ? Math.max(0, produced - consumed)
+                : Math.max(0, counters.sent.get() - counters.received.get());
+        return PartitionStats.builder()
+                .topic(topic)
+                .partition(partition)
+                .sentCount(counters.sent.get())
+                .receivedCount(counters.received.get())
+                .lastProducedOffset(produced)
+                .lastConsumedOffset(consumed)
+                .lag(lag)
+                .build();
+    }
+
+    private static class Counters {
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong received = new AtomicLong();
+        private final LongAccumulator lastProducedOffset = new LongAccumulator(Math::max, -1);
+        private final LongAccumulator lastConsumedOffset = new LongAccumulator(Math::max, -1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.kafka.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.service.TuningValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProducerTuningService {
+
+    private static final Set<String> COMPRESSION_TYPES = Set.of("none", "gzip", "snappy", "lz4", "zstd");
+    private static final Set<String> ACKS = Set.of("all", "-1", "0", "1");
+
+    private final ProducerFactory<String, Message> producerFactory;
+
+    public synchronized Map<String, Object> getSettings() {
+        Map<String, Object> properties = producerFactory.getConfigurationProperties();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("batchSize", properties.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        settings.put("lingerMs", properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        settings.put("compressionType", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        settings.put("acks", properties.get(ProducerConfig.ACKS_CONFIG));
+        settings.put("bufferMemory", properties.get(ProducerConfig.BUFFER_MEMORY_CONFIG));
+        settings.put("maxInFlightRequests", properties.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        settings.put("idempotence", properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        return settings;
+    }
+
+    // Checks every producer key without applying anything, so callers can validate all services first
+    public void validate(Map<String, Object> changes) {
+        parse(changes);
+    }
+
+    public synchronized Map<String, Object> update(Map<String, Object> changes) {
+        Map<String, Object> updates = parse(changes);
+        if (updates.isEmpty()) {
+            return getSettings();
+        }
+
+        apply(updates);
+        return getSettings();
+    }
+
+    private Map<String, Object> parse(Map<String, Object> changes) {
+        Map<String, Object> updates = new HashMap<>();
+        changes.forEach((key, value) -> {
+            switch (key) {
+                case "batchSize" ->
+                        updates.put(ProducerConfig.BATCH_SIZE_CONFIG, positive(key, TuningValues.toInt(key, value)));
+                case "lingerMs" ->
+                        updates.put(ProducerConfig.LINGER_MS_CONFIG, nonNegative(key, TuningValues.toLong(key, value)));
+                case "bufferMemory" -> updates.put(ProducerConfig.BUFFER_MEMORY_CONFIG,
+                        positive(key, TuningValues.toLong(key, value)));
+                case "maxInFlightRequests" -> updates.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                        positive(key, TuningValues.toInt(key, value)));
+                case "compressionType" -> updates.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                        validated(key, String.valueOf(value), COMPRESSION_TYPES));
+                case "acks" -> updates.put(ProducerConfig.ACKS_CONFIG, validated(key, String.valueOf(value), ACKS));
+                default -> {
+                    // Not a producer setting; other keys are handled elsewhere
+                }
+            }
+        });
+        return updates;
+    }
+
+    private void apply(Map<String, Object> updates) {
+        Map<String, Object> effective = new HashMap<>(updates);
+        Object acks = effective.getOrDefault(ProducerConfig.ACKS_CONFIG,
+                producerFactory.getConfigurationProperties().get(ProducerConfig.ACKS_CONFIG));
+        // The idempotent producer requires acks=all and at most 5 in-flight requests
+        Object maxInFlight = effective.getOrDefault(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                producerFactory.getConfigurationProperties().get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        boolean idempotent = ("all".equals(String.valueOf(acks)) || "-1".equals(String.valueOf(acks)))
+                && (maxInFlight == null || Integer.parseInt(String.valueOf(maxInFlight)) <= 5);
+        effective.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotent);
+
+        log.info("Applying producer settings: {}", effective);
+        producerFactory.updateConfigs(effective);
+        // Closes the cached producer; the next send creates one with the new configuration
+        producerFactory.reset();
+    }
+
+    private static <T extends Number> T positive(String key, T value) {
+        if (value.longValue() < 1) {
+            throw new IllegalArgumentException(key + " must be positive");
+        }
+        return value;
+    }
+
+    private static long nonNegative(String key, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must not be negative");
+        }
+        return value;
+    }
+
+    private static String validated(String key, String value, Set<String> allowed) {
+        if (!allowed.contains(value)) {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value + ", expected one of " + allowed);
+        }
+        return value;
+    }
+}
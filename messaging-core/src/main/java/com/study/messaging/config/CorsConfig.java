@@ -1,4 +1,4 @@
-package com.study.kafka.config;
+package com.study.messaging.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -0,0 +1,49 @@
+package com.study.messaging.controller;
+
+import com.study.messaging.model.BenchmarkComparison;
+import com.study.messaging.model.BenchmarkReport;
+import com.study.messaging.model.BenchmarkScenario;
+import com.study.messaging.service.BenchmarkOrchestrator;
+import com.study.messaging.service.BenchmarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/benchmarks")
+@RequiredArgsConstructor
+public class BenchmarkController {
+
+    private final BenchmarkService benchmarkService;
+    private final BenchmarkOrchestrator orchestrator;
+
+    @PostMapping("/run")
+    public ResponseEntity<?> run(@RequestBody BenchmarkScenario scenario) {
+        log.info("Received request to run benchmark: {}", scenario);
+        try {
+            BenchmarkReport report = benchmarkService.run(scenario);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/compare")
+    public ResponseEntity<BenchmarkComparison> compare(@RequestBody BenchmarkScenario scenario) {
+        log.info("Received request to compare transports: {}", scenario);
+        return ResponseEntity.ok(orchestrator.compare(scenario));
+    }
+
+    @GetMapping("/targets")
+    public ResponseEntity<List<String>> getTargets() {
+        return ResponseEntity.ok(orchestrator.getTargets());
+    }
+}
@@ -0,0 +1,81 @@
+package com.study.messaging.controller;
+
+import com.study.messaging.model.JournalPage;
+import com.study.messaging.model.JournalQuery;
+import com.study.messaging.model.ReplayJob;
+import com.study.messaging.service.JournalReplayService;
+import com.study.messaging.service.MessageJournal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/journal")
+@RequiredArgsConstructor
+public class JournalController {
+
+    private final MessageJournal journal;
+    private final JournalReplayService replayService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(journal.getStatus());
+    }
+
+    @GetMapping("/messages")
+    public ResponseEntity<?> getMessages(JournalQuery query) {
+        if (!journal.isEnabled()) {
+            return disabled();
+        }
+        JournalPage page = journal.read(query);
+        return ResponseEntity.ok(page);
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(@RequestBody(required = false) JournalQuery query) {
+        if (!journal.isEnabled()) {
+            return disabled();
+        }
+        JournalQuery replayQuery = query != null ? query : new JournalQuery();
+        log.info("Replaying journal into WebSocket: {}", replayQuery);
+        return ResponseEntity.accepted().body(replayService.submit(replayQuery));
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<List<ReplayJob>> getReplays() {
+        return ResponseEntity.ok(replayService.getJobs());
+    }
+
+    @GetMapping("/replay/{jobId}")
+    public ResponseEntity<ReplayJob> getReplay(@PathVariable String jobId) {
+        return replayService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/replay/{jobId}")
+    public ResponseEntity<ReplayJob> cancelReplay(@PathVariable String jobId) {
+        return replayService.cancelOrRemove(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> clear() throws IOException {
+        journal.clear();
+        return ResponseEntity.ok(Map.of("cleared", true));
+    }
+
+    private static ResponseEntity<Map<String, Object>> disabled() {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "error",
+                "message", "Journal is disabled, set journal.enabled=true"
+        ));
+    }
+}
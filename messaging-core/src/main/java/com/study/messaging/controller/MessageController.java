@@ -0,0 +1,159 @@
+package com.study.messaging.controller;
+
+import com.study.messaging.model.*;
+import com.study.messaging.serialization.MessageSerialization;
+import com.study.messaging.service.BulkJobService;
+import com.study.messaging.service.BulkProgress;
+import com.study.messaging.service.MessageConsumerService;
+import com.study.messaging.service.MetricsService;
+import com.study.messaging.service.ReceivedMessageStore;
+import com.study.messaging.transport.MessageTransport;
+import com.study.messaging.websocket.MessageWebSocketHandler;
+import com.study.messaging.websocket.SessionBackpressureTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+public class MessageController {
+
+    private final MessageTransport transport;
+    private final MessageConsumerService consumerService;
+    private final MetricsService metricsService;
+    private final BulkJobService bulkJobService;
+    private final MessageWebSocketHandler webSocketHandler;
+    private final SessionBackpressureTracker backpressureTracker;
+    private final MessageSerialization serialization;
+
+    @PostMapping("/send")
+    public ResponseEntity<MessageSendResponse> sendMessage(@RequestBody Message message) {
+        log.info("Received request to send message");
+        MessageSendResponse response = transport.send(message);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/send-bulk")
+    public ResponseEntity<BulkMessageResponse> sendBulkMessages(@RequestBody BulkMessageRequest request) {
+        log.info("Received request to send bulk messages: count={}", request.getCount());
+        BulkMessageResponse response = transport.sendBulk(request, new BulkProgress());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk-jobs")
+    public ResponseEntity<BulkJob> submitBulkJob(@RequestBody BulkMessageRequest request) {
+        log.info("Received request to submit bulk job: count={}", request.getCount());
+        BulkJob job = bulkJobService.submit(request);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/bulk-jobs")
+    public ResponseEntity<List<BulkJob>> getBulkJobs() {
+        return ResponseEntity.ok(bulkJobService.getJobs());
+    }
+
+    @GetMapping("/bulk-jobs/{jobId}")
+    public ResponseEntity<BulkJob> getBulkJob(@PathVariable String jobId) {
+        return bulkJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/bulk-jobs/{jobId}")
+    public ResponseEntity<BulkJob> cancelBulkJob(@PathVariable String jobId) {
+        log.info("Received request to cancel bulk job: {}", jobId);
+        return bulkJobService.cancelOrRemove(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<MessageStats> getStats() {
+        MessageStats stats = metricsService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/stats/timeseries")
+    public ResponseEntity<List<TimeSeriesPoint>> getStatsTimeSeries(
+            @RequestParam(defaultValue = "600") int seconds) {
+        return ResponseEntity.ok(metricsService.getTimeSeries(seconds));
+    }
+
+    @GetMapping("/stats/websocket")
+    public ResponseEntity<Map<String, Object>> getWebSocketStats() {
+        return ResponseEntity.ok(Map.of(
+                "forwarding", webSocketHandler.getForwardingStats(),
+                "sessions", backpressureTracker.getSessionStats()
+        ));
+    }
+
+    @GetMapping("/stats/serialization")
+    public ResponseEntity<SerializationStats> getSerializationStats() {
+        return ResponseEntity.ok(serialization.getStats());
+    }
+
+    @GetMapping("/serialization/compare")
+    public ResponseEntity<?> compareSerialization(
+            @RequestParam(defaultValue = "256") int contentSize,
+            @RequestParam(defaultValue = "100000") int iterations) {
+        try {
+            return ResponseEntity.ok(serialization.compare(contentSize, iterations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/subscribe")
+    public ResponseEntity<Map<String, Object>> subscribe(@RequestBody(required = false) Map<String, String> config) {
+        log.info("Consumer subscription request received");
+        return ResponseEntity.ok(Map.of(
+                "subscribed", true,
+                "identifier", transport.name() + "-consumer",
+                "message", "Consumer is already listening"
+        ));
+    }
+
+    @DeleteMapping("/unsubscribe")
+    public ResponseEntity<Map<String, Boolean>> unsubscribe() {
+        log.info("Consumer unsubscribe request received");
+        return ResponseEntity.ok(Map.of("unsubscribed", true));
+    }
+
+    @GetMapping("/received")
+    public ResponseEntity<Map<String, Object>> getReceivedMessages(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "-1") long since,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long before) {
+        ReceivedMessageStore.Page page = consumerService.getReceivedMessages(limit, since, before);
+        return ResponseEntity.ok(Map.of(
+                "messages", page.messages(),
+                "total", page.messages().size(),
+                "cursor", page.cursor(),
+                "before", page.before(),
+                "hasMore", page.hasMore()
+        ));
+    }
+
+    @DeleteMapping("/received")
+    public ResponseEntity<Map<String, Boolean>> clearReceivedMessages() {
+        consumerService.clearMessages();
+        return ResponseEntity.ok(Map.of("cleared", true));
+    }
+
+    @PostMapping("/stats/reset")
+    public ResponseEntity<Map<String, String>> resetStats() {
+        metricsService.reset();
+        serialization.resetStats();
+        consumerService.clearMessages();
+        return ResponseEntity.ok(Map.of("status", "Stats reset successfully"));
+    }
+}
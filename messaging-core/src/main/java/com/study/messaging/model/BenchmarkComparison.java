@@ -0,0 +1,24 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkComparison {
+    private BenchmarkScenario scenario;
+    private long startedAt;
+    private long durationMs;
+    private List<BenchmarkReport> reports;
+    // Target URL to error for backends that could not run the scenario
+    @Builder.Default
+    private Map<String, String> failures = new LinkedHashMap<>();
+}
@@ -0,0 +1,26 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkReport {
+    private String transport;
+    private BenchmarkScenario scenario;
+    private long startedAt;
+    private long durationMs;
+    private Map<String, Object> transportSettings;
+    private BenchmarkTrial warmup;
+    private List<BenchmarkTrial> trials;
+    @Builder.Default
+    private Map<String, MetricSummary> summary = new LinkedHashMap<>();
+}
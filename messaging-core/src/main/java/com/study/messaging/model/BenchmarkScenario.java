@@ -0,0 +1,39 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkScenario {
+    private String name;
+    // Random content of this size unless payload is set
+    @Builder.Default
+    private int messageSizeBytes = 256;
+    private PayloadSpec payload;
+    // Messages per second; the measured run sends targetRate * durationSeconds messages
+    @Builder.Default
+    private double targetRate = 1000;
+    @Builder.Default
+    private int durationSeconds = 10;
+    @Builder.Default
+    private int warmupSeconds = 3;
+    @Builder.Default
+    private int trials = 3;
+    @Builder.Default
+    private int producers = 1;
+    @Builder.Default
+    private int consumers = 1;
+    // Persistent messages / acks=all when true, fire-and-forget durability when false
+    @Builder.Default
+    private boolean durable = true;
+    @Builder.Default
+    private BulkSendMode mode = BulkSendMode.PIPELINED;
+    private int maxInFlight;
+    @Builder.Default
+    private int drainTimeoutSeconds = 30;
+}
@@ -0,0 +1,32 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkTrial {
+    private int trial;
+    private boolean warmup;
+    private long sent;
+    private long received;
+    private long expected;
+    private boolean drained;
+    private long durationMs;
+    private double sendThroughput;
+    private double throughput;
+    private double p50LatencyMs;
+    private double p90LatencyMs;
+    private double p99LatencyMs;
+    private double p999LatencyMs;
+    private double maxLatencyMs;
+    // Measured from the intended send time, so only differs from the above in open-loop scenarios
+    private double correctedP99LatencyMs;
+    private double correctedP999LatencyMs;
+    private double cpuNanosPerMessage;
+    private double allocatedBytesPerMessage;
+}
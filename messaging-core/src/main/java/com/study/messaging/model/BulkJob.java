@@ -0,0 +1,23 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJob {
+    private String jobId;
+    private JobStatus status;
+    private int totalMessages;
+    private int successCount;
+    private int failCount;
+    private double progressPercent;
+    private long startedAt;
+    private Long finishedAt;
+    private BulkMessageResponse result;
+    private String error;
+}
@@ -0,0 +1,45 @@
+package com.study.messaging.model;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class BulkMessageRequest {
+    private int count;
+    private String messageTemplate;
+    private MessageFormat format;
+    private long delayMs;
+    private BulkSendMode mode;
+    private int maxInFlight;
+    private int producers;
+    private double targetRate;
+    // Generated payloads instead of messageTemplate when set
+    private PayloadSpec payload;
+    // Transport-specific fields such as producerProfile or topology, read by the transport
+    private Map<String, Object> options = new LinkedHashMap<>();
+
+    public BulkMessageRequest(int count, String messageTemplate) {
+        this.count = count;
+        this.messageTemplate = messageTemplate;
+        this.format = MessageFormat.TEXT;
+        this.delayMs = 0;
+        this.mode = BulkSendMode.SEQUENTIAL;
+        this.producers = 1;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getOptions() {
+        return options;
+    }
+
+    @JsonAnySetter
+    public void setOption(String name, Object value) {
+        options.put(name, value);
+    }
+}
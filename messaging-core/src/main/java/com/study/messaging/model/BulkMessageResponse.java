@@ -0,0 +1,77 @@
+package com.study.messaging.model;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMessageResponse {
+    private int totalSent;
+    private int successCount;
+    private int failCount;
+    private long durationMs;
+    private double throughput;
+    private BulkSendMode mode;
+    private int producers;
+    private double targetRate;
+    private List<ProducerResult> producerResults;
+    // Time from publish to broker ack (Kafka) or publisher confirm (RabbitMQ), pipelined and open-loop modes only,
+    // measured from the actual publish (uncorrected) and from the intended send time (corrected)
+    private LatencySummary uncorrectedAckLatency;
+    private LatencySummary correctedAckLatency;
+    // How far the slowest send fell behind its intended time
+    private double maxSendLagMs;
+    @Builder.Default
+    private Map<String, Object> details = new LinkedHashMap<>();
+
+    // Flat views of uncorrectedAckLatency, kept so existing clients still find them in the JSON
+    @Deprecated
+    public double getAverageAckLatencyMs() {
+        return uncorrected(LatencySummary::getAverageMs);
+    }
+
+    @Deprecated
+    public double getP50AckLatencyMs() {
+        return uncorrected(LatencySummary::getP50Ms);
+    }
+
+    @Deprecated
+    public double getP90AckLatencyMs() {
+        return uncorrected(LatencySummary::getP90Ms);
+    }
+
+    @Deprecated
+    public double getP99AckLatencyMs() {
+        return uncorrected(LatencySummary::getP99Ms);
+    }
+
+    @Deprecated
+    public double getMaxAckLatencyMs() {
+        return uncorrected(LatencySummary::getMaxMs);
+    }
+
+    private double uncorrected(ToDoubleFunction<LatencySummary> value) {
+        return uncorrectedAckLatency != null ? value.applyAsDouble(uncorrectedAckLatency) : 0.0;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    @JsonAnySetter
+    public void setDetail(String name, Object value) {
+        details.put(name, value);
+    }
+}
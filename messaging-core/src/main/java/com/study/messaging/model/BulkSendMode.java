@@ -0,0 +1,8 @@
+package com.study.messaging.model;
+
+public enum BulkSendMode {
+    SEQUENTIAL,
+    PIPELINED,
+    // Pipelined sends on a fixed timeline at targetRate that never waits for the broker to catch up
+    OPEN_LOOP
+}
@@ -0,0 +1,8 @@
+package com.study.messaging.model;
+
+public enum JobStatus {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalPage {
+    private List<Message> messages;
+    private List<Long> sequences;
+    private long nextSequence;
+    private boolean hasMore;
+}
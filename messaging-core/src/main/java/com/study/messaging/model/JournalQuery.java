@@ -0,0 +1,19 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalQuery {
+    private Long fromSequence;
+    private Long toSequence;
+    private Long fromTime;
+    private Long toTime;
+    private String contains;
+    private int limit;
+}
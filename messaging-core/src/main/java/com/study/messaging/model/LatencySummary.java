@@ -0,0 +1,20 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySummary {
+    private long count;
+    private double averageMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
@@ -1,5 +1,6 @@
-package com.study.rabbitmq.model;
+package com.study.messaging.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,8 +16,12 @@ public class Message {
     private String messageId;
     private String content;
     private MessageFormat format;
-    private String routingKey;
+    // Kafka topic or RabbitMQ routing key; the old names are still accepted on input
+    @JsonAlias({"topic", "routingKey"})
+    private String destination;
     private long timestamp;
+    // When an open-loop or rate-limited bulk send meant to publish; latency measured from here is corrected
+    private Long intendedTimestamp;
     private Long receivedAt;
 
     public Message(String content, MessageFormat format) {
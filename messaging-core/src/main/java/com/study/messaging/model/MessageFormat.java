@@ -1,4 +1,4 @@
-package com.study.kafka.model;
+package com.study.messaging.model;
 
 public enum MessageFormat {
     JSON,
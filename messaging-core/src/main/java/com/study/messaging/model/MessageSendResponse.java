@@ -1,4 +1,4 @@
-package com.study.kafka.model;
+package com.study.messaging.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
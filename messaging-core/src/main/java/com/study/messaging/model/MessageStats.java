@@ -0,0 +1,88 @@
+package com.study.messaging.model;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageStats {
+    private long totalSent;
+    private long totalReceived;
+    private double throughput;
+    private long lastMessageTimestamp;
+    // End-to-end latency from the actual send (uncorrected) and from the intended send time (corrected)
+    private LatencySummary uncorrectedLatency;
+    private LatencySummary correctedLatency;
+    private long inFlightCount;
+    private long expiredCount;
+    private long unmatchedCount;
+    private long untrackedCount;
+    private double sendRate1s;
+    private double sendRate10s;
+    private double sendRate60s;
+    private double receiveRate1s;
+    private double receiveRate10s;
+    private double receiveRate60s;
+    @Builder.Default
+    private Map<String, Object> details = new LinkedHashMap<>();
+
+    // Flat views of uncorrectedLatency, kept so existing clients still find them in the JSON
+    @Deprecated
+    public double getAverageLatencyMs() {
+        return uncorrected(LatencySummary::getAverageMs);
+    }
+
+    @Deprecated
+    public long getLatencyCount() {
+        return uncorrectedLatency != null ? uncorrectedLatency.getCount() : 0;
+    }
+
+    @Deprecated
+    public double getP50LatencyMs() {
+        return uncorrected(LatencySummary::getP50Ms);
+    }
+
+    @Deprecated
+    public double getP90LatencyMs() {
+        return uncorrected(LatencySummary::getP90Ms);
+    }
+
+    @Deprecated
+    public double getP99LatencyMs() {
+        return uncorrected(LatencySummary::getP99Ms);
+    }
+
+    @Deprecated
+    public double getP999LatencyMs() {
+        return uncorrected(LatencySummary::getP999Ms);
+    }
+
+    @Deprecated
+    public double getMaxLatencyMs() {
+        return uncorrected(LatencySummary::getMaxMs);
+    }
+
+    private double uncorrected(ToDoubleFunction<LatencySummary> value) {
+        return uncorrectedLatency != null ? value.applyAsDouble(uncorrectedLatency) : 0.0;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    @JsonAnySetter
+    public void setDetail(String name, Object value) {
+        details.put(name, value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricSummary {
+    private int samples;
+    private double mean;
+    private double stdDev;
+    private double min;
+    private double max;
+    // 95% confidence interval of the mean across trials
+    private double ciLow;
+    private double ciHigh;
+}
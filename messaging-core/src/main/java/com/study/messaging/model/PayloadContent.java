@@ -0,0 +1,9 @@
+package com.study.messaging.model;
+
+public enum PayloadContent {
+    // Base64 alphabet at random, which compressors can barely shrink
+    RANDOM,
+    // Words from a small vocabulary, which compress well
+    COMPRESSIBLE,
+    JSON
+}
@@ -0,0 +1,8 @@
+package com.study.messaging.model;
+
+public enum PayloadSizeProfile {
+    FIXED,
+    UNIFORM,
+    // Sizes drawn from a sample of observed message sizes
+    RECORDED
+}
@@ -0,0 +1,36 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayloadSpec {
+    @Builder.Default
+    private PayloadSizeProfile sizeProfile = PayloadSizeProfile.FIXED;
+    // FIXED size in bytes
+    @Builder.Default
+    private int sizeBytes = 256;
+    // UNIFORM bounds, inclusive
+    private int minBytes;
+    private int maxBytes;
+    // RECORDED sample; each payload takes one of these sizes at random
+    private List<Integer> recordedSizes;
+    @Builder.Default
+    private PayloadContent content = PayloadContent.RANDOM;
+    // Nesting of JSON documents
+    @Builder.Default
+    private int jsonDepth = 3;
+    // Distinct payloads generated up front; bulk sends cycle through them
+    @Builder.Default
+    private int poolSize = 1024;
+    // Fixed by default so every transport gets the same payloads
+    @Builder.Default
+    private long seed = 1;
+}
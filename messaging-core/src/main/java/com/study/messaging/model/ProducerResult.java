@@ -1,4 +1,4 @@
-package com.study.kafka.model;
+package com.study.messaging.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,10 +9,12 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class BulkMessageResponse {
-    private int totalSent;
+public class ProducerResult {
+    private int producerId;
+    private int fromIndex;
+    private int toIndex;
     private int successCount;
     private int failCount;
     private long durationMs;
-    private double throughput;
+    private double achievedRate;
 }
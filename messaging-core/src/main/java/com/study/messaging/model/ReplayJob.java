@@ -0,0 +1,20 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayJob {
+    private String jobId;
+    private JobStatus status;
+    private JournalQuery query;
+    private long replayedCount;
+    private long startedAt;
+    private Long finishedAt;
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.study.messaging.model;
+
+public enum SerializationFormat {
+    JSON,
+    BINARY,
+    PROTOBUF
+}
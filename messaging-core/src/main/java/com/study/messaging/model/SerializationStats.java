@@ -0,0 +1,20 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerializationStats {
+    private SerializationFormat format;
+    private long encodedCount;
+    private long decodedCount;
+    private long decodeErrors;
+    private double averageEncodedBytes;
+    private double averageEncodeNanos;
+    private double averageDecodeNanos;
+}
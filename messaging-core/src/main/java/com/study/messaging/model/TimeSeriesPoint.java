@@ -0,0 +1,23 @@
+package com.study.messaging.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesPoint {
+    private long timestamp;
+    private long durationMs;
+    private long sent;
+    private long received;
+    private double sendRate;
+    private double receiveRate;
+    private long latencyCount;
+    private double p50LatencyMs;
+    private double p99LatencyMs;
+    private double maxLatencyMs;
+}
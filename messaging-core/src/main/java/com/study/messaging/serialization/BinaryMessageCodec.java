@@ -0,0 +1,135 @@
+package com.study.messaging.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.model.SerializationFormat;
+
+import java.util.UUID;
+
+// Compact positional layout: version, flags, messageId (16-byte UUID or string), content, format ordinal,
+// destination, zig-zag timestamp and, if flagged, receivedAt and intendedTimestamp.
+// Strings are varint (length + 1) with 0 for null.
+public class BinaryMessageCodec implements MessageCodec {
+
+    public static final String CONTENT_TYPE = "application/x-study-message";
+
+    private static final int VERSION = 1;
+    private static final int FLAG_UUID_ID = 1;
+    private static final int FLAG_RECEIVED_AT = 1 << 1;
+    private static final int FLAG_INTENDED_TIMESTAMP = 1 << 2;
+    private static final MessageFormat[] FORMATS = MessageFormat.values();
+
+    @Override
+    public SerializationFormat format() {
+        return SerializationFormat.BINARY;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Message message) {
+        UUID uuid = asUuid(message.getMessageId());
+        byte[] messageId = uuid == null ? WireWriter.utf8(message.getMessageId()) : null;
+        byte[] content = WireWriter.utf8(message.getContent());
+        byte[] destination = WireWriter.utf8(message.getDestination());
+        long timestamp = WireWriter.zigZag(message.getTimestamp());
+        int format = message.getFormat() != null ? message.getFormat().ordinal() + 1 : 0;
+        int flags = (uuid != null ? FLAG_UUID_ID : 0) | (message.getReceivedAt() != null ? FLAG_RECEIVED_AT : 0)
+                | (message.getIntendedTimestamp() != null ? FLAG_INTENDED_TIMESTAMP : 0);
+        long receivedAt = message.getReceivedAt() != null ? WireWriter.zigZag(message.getReceivedAt()) : 0;
+        long intendedTimestamp = message.getIntendedTimestamp() != null
+                ? WireWriter.zigZag(message.getIntendedTimestamp())
+                : 0;
+
+        int size = 2
+                + (uuid != null ? 2 * Long.BYTES : stringSize(messageId))
+                + stringSize(content)
+                + WireWriter.varintSize(format)
+                + stringSize(destination)
+                + WireWriter.varintSize(timestamp)
+                + ((flags & FLAG_RECEIVED_AT) != 0 ? WireWriter.varintSize(receivedAt) : 0)
+                + ((flags & FLAG_INTENDED_TIMESTAMP) != 0 ? WireWriter.varintSize(intendedTimestamp) : 0);
+
+        WireWriter writer = new WireWriter(size).putByte(VERSION).putByte(flags);
+        if (uuid != null) {
+            writer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        } else {
+            putString(writer, messageId);
+        }
+        putString(writer, content);
+        writer.putVarint(format);
+        putString(writer, destination);
+        writer.putVarint(timestamp);
+        if ((flags & FLAG_RECEIVED_AT) != 0) {
+            writer.putVarint(receivedAt);
+        }
+        if ((flags & FLAG_INTENDED_TIMESTAMP) != 0) {
+            writer.putVarint(intendedTimestamp);
+        }
+        return writer.toArray();
+    }
+
+    @Override
+    public Message decode(byte[] data) {
+        WireReader reader = new WireReader(data);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary message version " + version);
+        }
+        int flags = reader.readByte();
+        String messageId = (flags & FLAG_UUID_ID) != 0
+                ? new UUID(reader.readLong(), reader.readLong()).toString()
+                : readString(reader);
+        String content = readString(reader);
+        int format = (int) reader.readVarint();
+        String destination = readString(reader);
+        long timestamp = WireReader.unZigZag(reader.readVarint());
+        Long receivedAt = (flags & FLAG_RECEIVED_AT) != 0 ? WireReader.unZigZag(reader.readVarint()) : null;
+        Long intendedTimestamp = (flags & FLAG_INTENDED_TIMESTAMP) != 0
+                ? WireReader.unZigZag(reader.readVarint())
+                : null;
+
+        return Message.builder()
+                .messageId(messageId)
+                .content(content)
+                .format(format > 0 && format <= FORMATS.length ? FORMATS[format - 1] : null)
+                .destination(destination)
+                .timestamp(timestamp)
+                .intendedTimestamp(intendedTimestamp)
+                .receivedAt(receivedAt)
+                .build();
+    }
+
+    private static UUID asUuid(String messageId) {
+        // Only take the 16-byte form when decoding gives back the exact same string
+        if (messageId == null || messageId.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(messageId);
+            return uuid.toString().equals(messageId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int stringSize(byte[] value) {
+        return value == null ? 1 : WireWriter.varintSize(value.length + 1L) + value.length;
+    }
+
+    private static void putString(WireWriter writer, byte[] value) {
+        if (value == null) {
+            writer.putVarint(0);
+        } else {
+            writer.putVarint(value.length + 1L).putBytes(value);
+        }
+    }
+
+    private static String readString(WireReader reader) {
+        long length = reader.readVarint();
+        return length == 0 ? null : reader.readString((int) (length - 1));
+    }
+}
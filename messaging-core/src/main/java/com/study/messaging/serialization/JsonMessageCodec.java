@@ -0,0 +1,51 @@
+package com.study.messaging.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.SerializationFormat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class JsonMessageCodec implements MessageCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JsonMessageCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(Message.class);
+        this.reader = objectMapper.readerFor(Message.class);
+    }
+
+    @Override
+    public SerializationFormat format() {
+        return SerializationFormat.JSON;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Message message) {
+        try {
+            return writer.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Message decode(byte[] data) {
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.study.messaging.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.SerializationFormat;
+
+public interface MessageCodec {
+
+    SerializationFormat format();
+
+    String contentType();
+
+    byte[] encode(Message message);
+
+    Message decode(byte[] data);
+}
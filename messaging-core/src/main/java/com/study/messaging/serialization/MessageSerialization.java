@@ -0,0 +1,161 @@
+package com.study.messaging.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.model.SerializationFormat;
+import com.study.messaging.model.SerializationStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class MessageSerialization {
+
+    // Compare runs on a request thread, so keep one call to a bounded amount of memory and work
+    public static final int MAX_COMPARE_CONTENT_SIZE = 1024 * 1024;
+    public static final int MAX_COMPARE_ITERATIONS = 1_000_000;
+    public static final long MAX_COMPARE_BYTES = 256L * 1024 * 1024;
+
+    private final Map<SerializationFormat, MessageCodec> codecs = new EnumMap<>(SerializationFormat.class);
+    private final MessageCodec codec;
+    private final LongAdder encodedCount = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder decodedCount = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder decodeErrors = new LongAdder();
+
+    public MessageSerialization(ObjectMapper objectMapper,
+                                @Value("${serialization.format:JSON}") SerializationFormat format) {
+        codecs.put(SerializationFormat.JSON, new JsonMessageCodec(objectMapper));
+        codecs.put(SerializationFormat.BINARY, new BinaryMessageCodec());
+        codecs.put(SerializationFormat.PROTOBUF, new ProtobufMessageCodec());
+        this.codec = codecs.get(format);
+        log.info("Message serialization format: {} ({})", format, codec.contentType());
+    }
+
+    public MessageCodec getCodec() {
+        return codec;
+    }
+
+    public byte[] encode(Message message) {
+        long start = System.nanoTime();
+        byte[] data = codec.encode(message);
+        encodeNanos.add(System.nanoTime() - start);
+        encodedCount.increment();
+        encodedBytes.add(data.length);
+        return data;
+    }
+
+    // Decodes with the codec the sender declared, so switching formats does not strand in-flight messages
+    public Message decode(byte[] data, String contentType) {
+        MessageCodec decoder = codecFor(contentType);
+        long start = System.nanoTime();
+        try {
+            Message message = decoder.decode(data);
+            decodeNanos.add(System.nanoTime() - start);
+            decodedCount.increment();
+            return message;
+        } catch (RuntimeException e) {
+            decodeErrors.increment();
+            throw e;
+        }
+    }
+
+    public SerializationStats getStats() {
+        long encoded = encodedCount.sum();
+        long decoded = decodedCount.sum();
+        return SerializationStats.builder()
+                .format(codec.format())
+                .encodedCount(encoded)
+                .decodedCount(decoded)
+                .decodeErrors(decodeErrors.sum())
+                .averageEncodedBytes(encoded > 0 ? (double) encodedBytes.sum() / encoded : 0.0)
+                .averageEncodeNanos(encoded > 0 ? (double) encodeNanos.sum() / encoded : 0.0)
+                .averageDecodeNanos(decoded > 0 ? (double) decodeNanos.sum() / decoded : 0.0)
+                .build();
+    }
+
+    // In-process round trip of one sample message through every codec, without touching the broker
+    public List<SerializationStats> compare(int contentSize, int iterations) {
+        if (contentSize < 0 || contentSize > MAX_COMPARE_CONTENT_SIZE) {
+            throw new IllegalArgumentException("contentSize must be between 0 and " + MAX_COMPARE_CONTENT_SIZE);
+        }
+        if (iterations < 1 || iterations > MAX_COMPARE_ITERATIONS) {
+            throw new IllegalArgumentException("iterations must be between 1 and " + MAX_COMPARE_ITERATIONS);
+        }
+        // Content size alone is not the cost: every iteration encodes and decodes it through each codec
+        if ((long) Math.max(1, contentSize) * iterations > MAX_COMPARE_BYTES) {
+            throw new IllegalArgumentException("contentSize * iterations must not exceed " + MAX_COMPARE_BYTES);
+        }
+        Message sample = Message.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content("x".repeat(contentSize))
+                .format(MessageFormat.TEXT)
+                .destination("sample")
+                .timestamp(System.currentTimeMillis())
+                .receivedAt(System.currentTimeMillis())
+                .build();
+        List<SerializationStats> results = new ArrayList<>(codecs.size());
+        for (MessageCodec candidate : codecs.values()) {
+            // Warm up so the JIT has compiled the codec before it is timed
+            for (int i = 0; i < Math.min(iterations, 10_000); i++) {
+                candidate.decode(candidate.encode(sample));
+            }
+
+            byte[] data = null;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                data = candidate.encode(sample);
+            }
+            long encodeTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                candidate.decode(data);
+            }
+            long decodeTime = System.nanoTime() - start;
+
+            results.add(SerializationStats.builder()
+                    .format(candidate.format())
+                    .encodedCount(iterations)
+                    .decodedCount(iterations)
+                    .averageEncodedBytes(data.length)
+                    .averageEncodeNanos((double) encodeTime / iterations)
+                    .averageDecodeNanos((double) decodeTime / iterations)
+                    .build());
+        }
+        return results;
+    }
+
+    public void resetStats() {
+        encodedCount.reset();
+        encodedBytes.reset();
+        encodeNanos.reset();
+        decodedCount.reset();
+        decodeNanos.reset();
+        decodeErrors.reset();
+    }
+
+    private MessageCodec codecFor(String contentType) {
+        if (contentType == null) {
+            // Messages from before codecs were pluggable carry no content type and are JSON
+            return codecs.get(SerializationFormat.JSON);
+        }
+        for (MessageCodec candidate : codecs.values()) {
+            if (contentType.startsWith(candidate.contentType())) {
+                return candidate;
+            }
+        }
+        return codec;
+    }
+}
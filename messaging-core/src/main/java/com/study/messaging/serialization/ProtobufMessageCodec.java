@@ -0,0 +1,138 @@
+package com.study.messaging.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.model.SerializationFormat;
+
+// Protocol Buffers wire format for the schema in message.proto, written by hand so no generated
+// classes or protobuf runtime are needed. Any protobuf client can decode it with that schema.
+public class ProtobufMessageCodec implements MessageCodec {
+
+    public static final String CONTENT_TYPE = "application/x-protobuf";
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private static final int FIELD_MESSAGE_ID = 1;
+    private static final int FIELD_CONTENT = 2;
+    private static final int FIELD_FORMAT = 3;
+    private static final int FIELD_DESTINATION = 4;
+    private static final int FIELD_TIMESTAMP = 5;
+    private static final int FIELD_RECEIVED_AT = 6;
+    private static final int FIELD_INTENDED_TIMESTAMP = 7;
+
+    private static final MessageFormat[] FORMATS = MessageFormat.values();
+
+    @Override
+    public SerializationFormat format() {
+        return SerializationFormat.PROTOBUF;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Message message) {
+        byte[] messageId = WireWriter.utf8(message.getMessageId());
+        byte[] content = WireWriter.utf8(message.getContent());
+        byte[] destination = WireWriter.utf8(message.getDestination());
+        int format = message.getFormat() != null ? message.getFormat().ordinal() + 1 : 0;
+        long timestamp = message.getTimestamp();
+
+        // proto3 leaves default values off the wire
+        int size = stringFieldSize(messageId) + stringFieldSize(content) + stringFieldSize(destination)
+                + (format != 0 ? 1 + WireWriter.varintSize(format) : 0)
+                + (timestamp != 0 ? 1 + WireWriter.varintSize(timestamp) : 0)
+                + (message.getReceivedAt() != null ? 1 + WireWriter.varintSize(message.getReceivedAt()) : 0)
+                + (message.getIntendedTimestamp() != null
+                        ? 1 + WireWriter.varintSize(message.getIntendedTimestamp())
+                        : 0);
+
+        WireWriter writer = new WireWriter(size);
+        putString(writer, FIELD_MESSAGE_ID, messageId);
+        putString(writer, FIELD_CONTENT, content);
+        if (format != 0) {
+            writer.putVarint(tag(FIELD_FORMAT, WIRE_VARINT)).putVarint(format);
+        }
+        putString(writer, FIELD_DESTINATION, destination);
+        if (timestamp != 0) {
+            writer.putVarint(tag(FIELD_TIMESTAMP, WIRE_VARINT)).putVarint(timestamp);
+        }
+        if (message.getReceivedAt() != null) {
+            writer.putVarint(tag(FIELD_RECEIVED_AT, WIRE_VARINT)).putVarint(message.getReceivedAt());
+        }
+        if (message.getIntendedTimestamp() != null) {
+            writer.putVarint(tag(FIELD_INTENDED_TIMESTAMP, WIRE_VARINT)).putVarint(message.getIntendedTimestamp());
+        }
+        return writer.toArray();
+    }
+
+    @Override
+    public Message decode(byte[] data) {
+        Message message = new Message();
+        WireReader reader = new WireReader(data);
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarint();
+            int field = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x7);
+            switch (field) {
+                case FIELD_MESSAGE_ID -> message.setMessageId(readString(reader, wireType));
+                case FIELD_CONTENT -> message.setContent(readString(reader, wireType));
+                case FIELD_FORMAT -> {
+                    int format = (int) readVarint(reader, wireType);
+                    message.setFormat(format > 0 && format <= FORMATS.length ? FORMATS[format - 1] : null);
+                }
+                case FIELD_DESTINATION -> message.setDestination(readString(reader, wireType));
+                case FIELD_TIMESTAMP -> message.setTimestamp(readVarint(reader, wireType));
+                case FIELD_RECEIVED_AT -> message.setReceivedAt(readVarint(reader, wireType));
+                case FIELD_INTENDED_TIMESTAMP -> message.setIntendedTimestamp(readVarint(reader, wireType));
+                default -> skip(reader, wireType);
+            }
+        }
+        return message;
+    }
+
+    private static int tag(int field, int wireType) {
+        return (field << 3) | wireType;
+    }
+
+    private static int stringFieldSize(byte[] value) {
+        return value == null ? 0 : 1 + WireWriter.varintSize(value.length) + value.length;
+    }
+
+    private static void putString(WireWriter writer, int field, byte[] value) {
+        if (value != null) {
+            writer.putVarint(tag(field, WIRE_LENGTH_DELIMITED)).putVarint(value.length).putBytes(value);
+        }
+    }
+
+    private static String readString(WireReader reader, int wireType) {
+        expect(wireType, WIRE_LENGTH_DELIMITED);
+        return reader.readString((int) reader.readVarint());
+    }
+
+    private static long readVarint(WireReader reader, int wireType) {
+        expect(wireType, WIRE_VARINT);
+        return reader.readVarint();
+    }
+
+    private static void skip(WireReader reader, int wireType) {
+        switch (wireType) {
+            case WIRE_VARINT -> reader.readVarint();
+            case WIRE_FIXED64 -> reader.skip(Long.BYTES);
+            case WIRE_LENGTH_DELIMITED -> reader.skip((int) reader.readVarint());
+            case WIRE_FIXED32 -> reader.skip(Integer.BYTES);
+            default -> throw new IllegalArgumentException("Unsupported wire type " + wireType);
+        }
+    }
+
+    private static void expect(int wireType, int expected) {
+        if (wireType != expected) {
+            throw new IllegalArgumentException("Unexpected wire type " + wireType + ", expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.study.messaging.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+final class WireReader {
+
+    private final byte[] data;
+    private int position;
+
+    WireReader(byte[] data) {
+        this.data = data;
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    boolean hasRemaining() {
+        return position < data.length;
+    }
+
+    int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    long readLong() {
+        require(Long.BYTES);
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result = (result << 8) | (data[position++] & 0xFF);
+        }
+        return result;
+    }
+
+    String readString(int length) {
+        require(length);
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    void skip(int length) {
+        require(length);
+        position += length;
+    }
+
+    private void require(int length) {
+        if (length < 0 || position + length > data.length) {
+            throw new IllegalArgumentException("Truncated message: need " + length + " bytes at offset " + position);
+        }
+    }
+}
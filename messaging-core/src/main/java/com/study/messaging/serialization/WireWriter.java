@@ -0,0 +1,61 @@
+package com.study.messaging.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+// Writes into an exactly sized array; callers compute the size up front with the static size helpers
+final class WireWriter {
+
+    private final byte[] buffer;
+    private int position;
+
+    WireWriter(int size) {
+        this.buffer = new byte[size];
+    }
+
+    static int varintSize(long value) {
+        // 7 payload bits per byte; a zero still takes one byte
+        return value == 0 ? 1 : (63 - Long.numberOfLeadingZeros(value)) / 7 + 1;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    WireWriter putByte(int value) {
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    WireWriter putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    WireWriter putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    WireWriter putBytes(byte[] value) {
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+        return this;
+    }
+
+    byte[] toArray() {
+        if (position != buffer.length) {
+            throw new IllegalStateException("Encoded " + position + " bytes, expected " + buffer.length);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,33 @@
+package com.study.messaging.service;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+// Ack latencies of one bulk send, measured from the actual publish and from the intended send time.
+// Measuring from the intended time corrects for coordinated omission: a stall delays every send queued behind it
+public class AckLatencies {
+
+    private final LatencySamples uncorrected = new LatencySamples();
+    private final LatencySamples corrected = new LatencySamples();
+    private final LongAccumulator maxSendLagNanos = new LongAccumulator(Math::max, 0);
+
+    public void recordSend(long intendedAt, long sentAt) {
+        maxSendLagNanos.accumulate(sentAt - intendedAt);
+    }
+
+    public void recordAck(long intendedAt, long sentAt, long ackedAt) {
+        uncorrected.record(ackedAt - sentAt);
+        corrected.record(ackedAt - intendedAt);
+    }
+
+    public LatencySamples uncorrected() {
+        return uncorrected;
+    }
+
+    public LatencySamples corrected() {
+        return corrected;
+    }
+
+    public double maxSendLagMs() {
+        return maxSendLagNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.BenchmarkComparison;
+import com.study.messaging.model.BenchmarkReport;
+import com.study.messaging.model.BenchmarkScenario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs one scenario on every configured backend, one after another so they never compete for the host
+@Slf4j
+@Service
+public class BenchmarkOrchestrator {
+
+    private final RestClient restClient;
+    private final List<String> targets;
+
+    public BenchmarkOrchestrator(RestClient.Builder restClientBuilder,
+                                 @Value("${benchmark.targets:http://localhost:8081,http://localhost:8082}")
+                                 String[] targets) {
+        this.restClient = restClientBuilder.build();
+        this.targets = Arrays.stream(targets)
+                .map(String::trim)
+                .filter(target -> !target.isEmpty())
+                .map(target -> target.endsWith("/") ? target.substring(0, target.length() - 1) : target)
+                .toList();
+    }
+
+    public List<String> getTargets() {
+        return targets;
+    }
+
+    public BenchmarkComparison compare(BenchmarkScenario scenario) {
+        long startedAt = Instant.now().toEpochMilli();
+        long startTime = System.nanoTime();
+        BenchmarkComparison comparison = BenchmarkComparison.builder()
+                .scenario(scenario)
+                .startedAt(startedAt)
+                .build();
+
+        List<BenchmarkReport> reports = new ArrayList<>(targets.size());
+        for (String target : targets) {
+            log.info("Running benchmark '{}' on {}", scenario.getName(), target);
+            try {
+                reports.add(restClient.post()
+                        .uri(target + "/api/benchmarks/run")
+                        .body(scenario)
+                        .retrieve()
+                        .body(BenchmarkReport.class));
+            } catch (RestClientException e) {
+                log.error("Benchmark on {} failed", target, e);
+                comparison.getFailures().put(target, e.getMessage());
+            }
+        }
+
+        comparison.setReports(reports);
+        comparison.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return comparison;
+    }
+}
@@ -0,0 +1,170 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.*;
+import com.study.messaging.transport.MessageTransport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Runs a scenario against this backend's transport: one warm-up run, then measured trials
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BenchmarkService {
+
+    private static final long DRAIN_POLL_MS = 50;
+
+    private final MessageTransport transport;
+    private final MetricsService metricsService;
+
+    // Trials reset the shared metrics, so only one scenario may run at a time
+    public synchronized BenchmarkReport run(BenchmarkScenario scenario) {
+        validate(scenario);
+        // Generates, and validates, the payload pool the trials will share before anything is measured
+        PayloadPool.forSpec(payloadSpec(scenario));
+        long startedAt = Instant.now().toEpochMilli();
+        long startTime = System.nanoTime();
+
+        Map<String, Object> transportSettings = transport.applyScenario(scenario);
+        log.info("Starting benchmark '{}' on {}: {} msg/s for {}s x {} trials, {} byte messages, settings={}",
+                scenario.getName(), transport.name(), scenario.getTargetRate(), scenario.getDurationSeconds(),
+                scenario.getTrials(), scenario.getMessageSizeBytes(), transportSettings);
+
+        BenchmarkTrial warmup = scenario.getWarmupSeconds() > 0
+                ? runTrial(scenario, 0, scenario.getWarmupSeconds())
+                : null;
+        List<BenchmarkTrial> trials = new ArrayList<>(scenario.getTrials());
+        for (int trial = 1; trial <= scenario.getTrials() && !Thread.currentThread().isInterrupted(); trial++) {
+            trials.add(runTrial(scenario, trial, scenario.getDurationSeconds()));
+        }
+
+        BenchmarkReport report = BenchmarkReport.builder()
+                .transport(transport.name())
+                .scenario(scenario)
+                .startedAt(startedAt)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .transportSettings(transportSettings)
+                .warmup(warmup)
+                .trials(trials)
+                .build();
+        report.getSummary().put("throughput", TrialStatistics.summarize(trials, BenchmarkTrial::getThroughput));
+        report.getSummary().put("sendThroughput", TrialStatistics.summarize(trials, BenchmarkTrial::getSendThroughput));
+        report.getSummary().put("p50LatencyMs", TrialStatistics.summarize(trials, BenchmarkTrial::getP50LatencyMs));
+        report.getSummary().put("p99LatencyMs", TrialStatistics.summarize(trials, BenchmarkTrial::getP99LatencyMs));
+        report.getSummary().put("p999LatencyMs", TrialStatistics.summarize(trials, BenchmarkTrial::getP999LatencyMs));
+        report.getSummary().put("correctedP99LatencyMs",
+                TrialStatistics.summarize(trials, BenchmarkTrial::getCorrectedP99LatencyMs));
+        report.getSummary().put("correctedP999LatencyMs",
+                TrialStatistics.summarize(trials, BenchmarkTrial::getCorrectedP999LatencyMs));
+        report.getSummary().put("cpuNanosPerMessage",
+                TrialStatistics.summarize(trials, BenchmarkTrial::getCpuNanosPerMessage));
+        report.getSummary().put("allocatedBytesPerMessage",
+                TrialStatistics.summarize(trials, BenchmarkTrial::getAllocatedBytesPerMessage));
+
+        log.info("Benchmark '{}' on {} completed in {}ms: throughput {} msg/s, p99 {} ms",
+                scenario.getName(), transport.name(), report.getDurationMs(),
+                String.format("%.2f", report.getSummary().get("throughput").getMean()),
+                String.format("%.2f", report.getSummary().get("p99LatencyMs").getMean()));
+        return report;
+    }
+
+    private BenchmarkTrial runTrial(BenchmarkScenario scenario, int trial, int seconds) {
+        BulkMessageRequest request = toRequest(scenario, seconds);
+        metricsService.reset();
+
+        ProcessResources before = ProcessResources.sample();
+        long startTime = System.nanoTime();
+        BulkMessageResponse response = transport.sendBulk(request, new BulkProgress());
+        // Metrics count each publish once, however many queues it fans out to
+        long expected = response.getSuccessCount();
+        boolean drained = awaitDrain(expected, scenario.getDrainTimeoutSeconds());
+        long durationNanos = System.nanoTime() - startTime;
+        ProcessResources used = ProcessResources.sample().since(before);
+
+        MessageStats stats = metricsService.getStats();
+        // Cost is charged per published message, covering its publish and every delivery of it
+        long published = Math.max(1, response.getSuccessCount());
+        BenchmarkTrial result = BenchmarkTrial.builder()
+                .trial(trial)
+                .warmup(trial == 0)
+                .sent(response.getSuccessCount())
+                .received(stats.getTotalReceived())
+                .expected(expected)
+                .drained(drained)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .sendThroughput(response.getThroughput())
+                .throughput(durationNanos > 0 ? stats.getTotalReceived() * 1_000_000_000.0 / durationNanos : 0)
+                .p50LatencyMs(stats.getUncorrectedLatency().getP50Ms())
+                .p90LatencyMs(stats.getUncorrectedLatency().getP90Ms())
+                .p99LatencyMs(stats.getUncorrectedLatency().getP99Ms())
+                .p999LatencyMs(stats.getUncorrectedLatency().getP999Ms())
+                .maxLatencyMs(stats.getUncorrectedLatency().getMaxMs())
+                .correctedP99LatencyMs(stats.getCorrectedLatency().getP99Ms())
+                .correctedP999LatencyMs(stats.getCorrectedLatency().getP999Ms())
+                .cpuNanosPerMessage((double) used.cpuNanos() / published)
+                .allocatedBytesPerMessage(used.allocatedBytes() < 0 ? -1 : (double) used.allocatedBytes() / published)
+                .build();
+
+        if (!drained) {
+            log.warn("Trial {} timed out waiting for deliveries: {} of {} received",
+                    trial, stats.getTotalReceived(), expected);
+        }
+        log.info("Trial {}: {}", trial == 0 ? "warm-up" : trial, result);
+        return result;
+    }
+
+    private boolean awaitDrain(long expected, int timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (metricsService.getTotalReceived() < expected) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(DRAIN_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BulkMessageRequest toRequest(BenchmarkScenario scenario, int seconds) {
+        int count = (int) Math.max(1, Math.round(scenario.getTargetRate() * seconds));
+        BulkMessageRequest request = new BulkMessageRequest(count, null);
+        request.setPayload(payloadSpec(scenario));
+        request.setMode(scenario.getMode());
+        request.setProducers(scenario.getProducers());
+        request.setMaxInFlight(scenario.getMaxInFlight());
+        request.setTargetRate(scenario.getTargetRate());
+        return request;
+    }
+
+    private static PayloadSpec payloadSpec(BenchmarkScenario scenario) {
+        return scenario.getPayload() != null
+                ? scenario.getPayload()
+                : PayloadSpec.builder().sizeBytes(scenario.getMessageSizeBytes()).build();
+    }
+
+    private static void validate(BenchmarkScenario scenario) {
+        if ((scenario.getPayload() == null && scenario.getMessageSizeBytes() < 1)
+                || scenario.getTargetRate() <= 0 || scenario.getDurationSeconds() < 1
+                || scenario.getTrials() < 1 || scenario.getProducers() < 1 || scenario.getConsumers() < 1) {
+            throw new IllegalArgumentException(
+                    "messageSizeBytes, targetRate, durationSeconds, trials, producers and consumers must be positive");
+        }
+        if (scenario.getWarmupSeconds() < 0 || scenario.getDrainTimeoutSeconds() < 0) {
+            throw new IllegalArgumentException("warmupSeconds and drainTimeoutSeconds must not be negative");
+        }
+        if (scenario.getTargetRate() * Math.max(scenario.getDurationSeconds(), scenario.getWarmupSeconds())
+                > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("targetRate * durationSeconds exceeds the bulk send limit");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.study.messaging.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.messaging.model.BulkJob;
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.BulkMessageResponse;
+import com.study.messaging.model.JobStatus;
+import com.study.messaging.transport.MessageTransport;
+import com.study.messaging.websocket.MessageWebSocketHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkJobService {
+
+    private final MessageTransport transport;
+    private final MessageWebSocketHandler webSocketHandler;
+    private final ObjectMapper objectMapper;
+    private final JobRegistry<JobHandle> jobs = new JobRegistry<>();
+
+    public BulkJob submit(BulkMessageRequest request) {
+        int totalMessages = transport.plannedSends(request);
+        JobHandle handle = jobs.submit(new JobHandle(totalMessages), job -> run(job, request));
+
+        log.info("Bulk job {} submitted: {} messages", handle.jobId, totalMessages);
+        return handle.snapshot();
+    }
+
+    public Optional<BulkJob> getJob(String jobId) {
+        return jobs.get(jobId).map(JobHandle::snapshot);
+    }
+
+    public List<BulkJob> getJobs() {
+        return jobs.list().stream()
+                .map(JobHandle::snapshot)
+                .toList();
+    }
+
+    public Optional<BulkJob> cancelOrRemove(String jobId) {
+        log.info("Cancelling or removing bulk job {}", jobId);
+        return jobs.cancelOrRemove(jobId).map(JobHandle::snapshot);
+    }
+
+    @Scheduled(fixedRateString = "${bulk-jobs.progress-interval-ms:500}")
+    public void publishProgress() {
+        jobs.running().forEach(handle -> publish("BULK_JOB_PROGRESS", handle));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.shutdown();
+    }
+
+    private void run(JobHandle handle, BulkMessageRequest request) {
+        try {
+            BulkMessageResponse result = transport.sendBulk(request, handle.progress);
+            handle.result = result;
+            handle.status = handle.cancelRequested ? JobStatus.CANCELLED : JobStatus.COMPLETED;
+        } catch (Exception e) {
+            log.error("Bulk job {} failed", handle.jobId, e);
+            handle.error = e.getMessage();
+            handle.status = JobStatus.FAILED;
+        } finally {
+            handle.finishedAt = Instant.now().toEpochMilli();
+            log.info("Bulk job {} finished with status {}", handle.jobId, handle.status);
+            publish("BULK_JOB_FINISHED", handle);
+        }
+    }
+
+    private void publish(String type, JobHandle handle) {
+        try {
+            webSocketHandler.sendEvent(objectMapper.writeValueAsString(Map.of(
+                    "type", type,
+                    "job", handle.snapshot()
+            )));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize bulk job event", e);
+        }
+    }
+
+    private static class JobHandle extends JobRegistry.Job {
+        private final int totalMessages;
+        private final BulkProgress progress = new BulkProgress();
+        private volatile BulkMessageResponse result;
+
+        JobHandle(int totalMessages) {
+            this.totalMessages = totalMessages;
+        }
+
+        BulkJob snapshot() {
+            return BulkJob.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .totalMessages(totalMessages)
+                    .successCount(progress.getSuccessCount())
+                    .failCount(progress.getFailCount())
+                    .progressPercent(totalMessages > 0 ? progress.getCompletedCount() * 100.0 / totalMessages : 100.0)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.messaging.model.PayloadContent;
+
+// Builds bulk messages by index; anything that can be prepared once per request is prepared on creation
+public class BulkMessageSource {
+
+    private final MessageTemplate template;
+    private final PayloadPool payloads;
+    private final MessageFormat format;
+
+    private BulkMessageSource(MessageTemplate template, PayloadPool payloads, MessageFormat format) {
+        this.template = template;
+        this.payloads = payloads;
+        this.format = format;
+    }
+
+    public static BulkMessageSource of(BulkMessageRequest request) {
+        if (request.getPayload() != null) {
+            boolean json = request.getPayload().getContent() == PayloadContent.JSON;
+            MessageFormat format = request.getFormat() == null && json ? MessageFormat.JSON : request.getFormat();
+            return new BulkMessageSource(null, PayloadPool.forSpec(request.getPayload()), format);
+        }
+        if (request.getMessageTemplate() == null) {
+            throw new IllegalArgumentException("messageTemplate or payload is required");
+        }
+        return new BulkMessageSource(MessageTemplate.compile(request.getMessageTemplate()), null, request.getFormat());
+    }
+
+    public Message build(int index) {
+        return fill(newMessage(), index);
+    }
+
+    // Send loops keep one message per producer and refill it; the broker clients serialize it before send returns.
+    // Anything that holds on to the message afterwards (a Kafka ProducerRecord or SendResult, a deferred log line)
+    // sees whatever the loop filled in last, so callers copy the fields they need before sending
+    public Message newMessage() {
+        return Message.builder()
+                .format(format)
+                .build();
+    }
+
+    public Message fill(Message message, int index) {
+        message.setContent(payloads != null ? payloads.get(index) : template.expand(index));
+        message.setDestination(null);
+        return message;
+    }
+
+    // Null for template requests
+    public PayloadPool getPayloads() {
+        return payloads;
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.messaging.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BulkProgress {
+
+    private final AtomicInteger successCount = new AtomicInteger();
+    private final AtomicInteger failCount = new AtomicInteger();
+
+    public void recordSuccess() {
+        successCount.incrementAndGet();
+    }
+
+    public void recordFailure() {
+        failCount.incrementAndGet();
+    }
+
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+
+    public int getFailCount() {
+        return failCount.get();
+    }
+
+    public int getCompletedCount() {
+        return successCount.get() + failCount.get();
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.BulkMessageResponse;
+import com.study.messaging.model.BulkSendMode;
+import com.study.messaging.model.ProducerResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class BulkSendEngine {
+
+    public List<ProducerResult> run(BulkMessageRequest request, SliceSender sender) {
+        int producers = Math.max(1, Math.min(request.getProducers(), request.getCount()));
+        int sliceSize = request.getCount() / producers;
+        int remainder = request.getCount() % producers;
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.forRequest(request);
+
+        log.info("Running bulk send on {} virtual-thread producers, targetRate={}", producers, request.getTargetRate());
+
+        List<Future<ProducerResult>> futures = new ArrayList<>(producers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int fromIndex = 0;
+            for (int producerId = 0; producerId < producers; producerId++) {
+                int toIndex = fromIndex + sliceSize + (producerId < remainder ? 1 : 0);
+                int id = producerId;
+                int from = fromIndex;
+                futures.add(executor.submit(() -> runSlice(id, from, toIndex, rateLimiter, sender)));
+                fromIndex = toIndex;
+            }
+        }
+
+        // Closing the executor waited for every producer, including after a cancellation interrupt
+        List<ProducerResult> results = new ArrayList<>(producers);
+        for (Future<ProducerResult> future : futures) {
+            if (future.state() == Future.State.SUCCESS) {
+                results.add(future.resultNow());
+            } else if (future.state() == Future.State.FAILED) {
+                log.error("Bulk producer failed", future.exceptionNow());
+            }
+        }
+        return results;
+    }
+
+    private ProducerResult runSlice(int producerId, int fromIndex, int toIndex,
+                                    TokenBucketRateLimiter rateLimiter, SliceSender sender) {
+        long startTime = System.nanoTime();
+        SliceOutcome outcome = sender.send(fromIndex, toIndex, rateLimiter);
+        long durationNanos = System.nanoTime() - startTime;
+        double achievedRate = durationNanos > 0 ? outcome.successCount() * 1_000_000_000.0 / durationNanos : 0;
+
+        return ProducerResult.builder()
+                .producerId(producerId)
+                .fromIndex(fromIndex)
+                .toIndex(toIndex)
+                .successCount(outcome.successCount())
+                .failCount(outcome.failCount())
+                .durationMs(durationNanos / 1_000_000)
+                .achievedRate(achievedRate)
+                .build();
+    }
+
+    // Shared tail of every transport's bulk response; transports add their own details before build()
+    public static BulkMessageResponse.BulkMessageResponseBuilder summarize(int totalSent, BulkSendMode mode,
+                                                                          double targetRate,
+                                                                          List<ProducerResult> producerResults,
+                                                                          long durationMs,
+                                                                          AckLatencies ackLatencies) {
+        int successCount = producerResults.stream().mapToInt(ProducerResult::getSuccessCount).sum();
+        int failCount = producerResults.stream().mapToInt(ProducerResult::getFailCount).sum();
+        double throughput = durationMs > 0 ? (successCount * 1000.0) / durationMs : 0;
+
+        return BulkMessageResponse.builder()
+                .totalSent(totalSent)
+                .successCount(successCount)
+                .failCount(failCount)
+                .durationMs(durationMs)
+                .throughput(throughput)
+                .mode(mode)
+                .producers(producerResults.size())
+                .targetRate(targetRate)
+                .producerResults(producerResults)
+                .uncorrectedAckLatency(ackLatencies.uncorrected().summary())
+                .correctedAckLatency(ackLatencies.corrected().summary())
+                .maxSendLagMs(ackLatencies.maxSendLagMs());
+    }
+
+    // Wall-clock millis of a recent System.nanoTime() instant, for stamping intended send times on messages
+    public static long epochMillisAt(long nanoTime) {
+        return System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
+    }
+
+    @FunctionalInterface
+    public interface SliceSender {
+        SliceOutcome send(int fromIndex, int toIndex, TokenBucketRateLimiter rateLimiter);
+    }
+
+    public record SliceOutcome(int successCount, int failCount) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.study.messaging.service;
+
+import java.util.Arrays;
+
+public class InFlightTracker {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public InFlightTracker(int capacity) {
+        int segmentCapacity = Integer.highestOneBit(Math.max(16, capacity / SEGMENT_COUNT) * 2 - 1);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    public boolean track(long mostSigBits, long leastSigBits, long sentAt) {
+        int hash = hash(mostSigBits, leastSigBits);
+        return segmentFor(hash).put(hash, mostSigBits, leastSigBits, Math.max(1, sentAt));
+    }
+
+    public boolean complete(long mostSigBits, long leastSigBits) {
+        int hash = hash(mostSigBits, leastSigBits);
+        return segmentFor(hash).remove(hash, mostSigBits, leastSigBits);
+    }
+
+    public int expireOlderThan(long cutoff) {
+        int expired = 0;
+        for (Segment segment : segments) {
+            expired += segment.expireOlderThan(cutoff);
+        }
+        return expired;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> 28];
+    }
+
+    // Package-private so tests can pick IDs that collide in one segment
+    static int hash(long mostSigBits, long leastSigBits) {
+        long h = (mostSigBits ^ leastSigBits) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // Open-addressed table with linear probing; sentAt == 0 marks a free slot
+    private static final class Segment {
+        private final long[] mostSigBits;
+        private final long[] leastSigBits;
+        private final long[] sentAt;
+        private final int mask;
+        private final int maxSize;
+        private int size;
+
+        Segment(int capacity) {
+            this.mostSigBits = new long[capacity];
+            this.leastSigBits = new long[capacity];
+            this.sentAt = new long[capacity];
+            this.mask = capacity - 1;
+            this.maxSize = (int) (capacity * MAX_LOAD_FACTOR);
+        }
+
+        synchronized boolean put(int hash, long msb, long lsb, long timestamp) {
+            int slot = hash & mask;
+            while (sentAt[slot] != 0) {
+                if (mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                    sentAt[slot] = timestamp;
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size >= maxSize) {
+                return false;
+            }
+            mostSigBits[slot] = msb;
+            leastSigBits[slot] = lsb;
+            sentAt[slot] = timestamp;
+            size++;
+            return true;
+        }
+
+        synchronized boolean remove(int hash, long msb, long lsb) {
+            int slot = hash & mask;
+            while (sentAt[slot] != 0) {
+                if (mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                    removeAt(slot);
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        synchronized int expireOlderThan(long cutoff) {
+            int expired = 0;
+            int slot = 0;
+            while (slot < sentAt.length) {
+                if (sentAt[slot] != 0 && sentAt[slot] < cutoff) {
+                    removeAt(slot);
+                    expired++;
+                    // removeAt may have shifted a later entry into this slot
+                    continue;
+                }
+                slot++;
+            }
+            return expired;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(sentAt, 0);
+            size = 0;
+        }
+
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        private void removeAt(int slot) {
+            int hole = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (sentAt[next] == 0) {
+                    break;
+                }
+                int home = hash(mostSigBits[next], leastSigBits[next]) & mask;
+                boolean homeBetween = hole <= next
+                        ? hole < home && home <= next
+                        : hole < home || home <= next;
+                if (homeBetween) {
+                    continue;
+                }
+                mostSigBits[hole] = mostSigBits[next];
+                leastSigBits[hole] = leastSigBits[next];
+                sentAt[hole] = sentAt[next];
+                hole = next;
+            }
+            sentAt[hole] = 0;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.JobStatus;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Background jobs run on virtual threads and stay queryable until cancelled, removed or evicted
+class JobRegistry<J extends JobRegistry.Job> {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final Map<String, J> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    J submit(J job, Consumer<J> task) {
+        jobs.put(job.jobId, job);
+        job.future = executor.submit(() -> task.accept(job));
+        evictFinishedJobs();
+        return job;
+    }
+
+    Optional<J> get(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    List<J> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparingLong(job -> job.startedAt))
+                .toList();
+    }
+
+    List<J> running() {
+        return jobs.values().stream()
+                .filter(job -> job.status == JobStatus.RUNNING)
+                .toList();
+    }
+
+    // A running job is cancelled and kept so its final status can still be read; a finished one is removed
+    Optional<J> cancelOrRemove(String jobId) {
+        J job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.status == JobStatus.RUNNING) {
+            job.cancelRequested = true;
+            if (job.future != null) {
+                job.future.cancel(true);
+            }
+        } else {
+            jobs.remove(jobId);
+        }
+        return Optional.of(job);
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void evictFinishedJobs() {
+        List<J> finished = jobs.values().stream()
+                .filter(job -> job.status != JobStatus.RUNNING)
+                .sorted(Comparator.comparingLong(job -> job.startedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - MAX_FINISHED_JOBS; i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    abstract static class Job {
+        final String jobId = UUID.randomUUID().toString();
+        final long startedAt = Instant.now().toEpochMilli();
+        volatile Future<?> future;
+        volatile JobStatus status = JobStatus.RUNNING;
+        volatile boolean cancelRequested;
+        volatile String error;
+        volatile Long finishedAt;
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.JobStatus;
+import com.study.messaging.model.JournalQuery;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.ReplayJob;
+import com.study.messaging.websocket.MessageWebSocketHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Replays run in the background on their own paced destination, so they neither hold an HTTP thread
+// nor compete with live forwarding for the message queue
+@Slf4j
+@Service
+public class JournalReplayService {
+
+    private final MessageJournal journal;
+    private final MessageWebSocketHandler webSocketHandler;
+    private final int batchSize;
+    private final long batchIntervalNanos;
+    private final JobRegistry<JobHandle> jobs = new JobRegistry<>();
+
+    public JournalReplayService(MessageJournal journal,
+                                MessageWebSocketHandler webSocketHandler,
+                                @Value("${websocket.replay.batch-size:500}") int batchSize,
+                                @Value("${websocket.replay.batches-per-second:20}") int batchesPerSecond) {
+        this.journal = journal;
+        this.webSocketHandler = webSocketHandler;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, batchesPerSecond);
+    }
+
+    public ReplayJob submit(JournalQuery query) {
+        JobHandle handle = jobs.submit(new JobHandle(query), this::run);
+
+        log.info("Replay job {} submitted: {}", handle.jobId, query);
+        return handle.snapshot();
+    }
+
+    public Optional<ReplayJob> getJob(String jobId) {
+        return jobs.get(jobId).map(JobHandle::snapshot);
+    }
+
+    public List<ReplayJob> getJobs() {
+        return jobs.list().stream()
+                .map(JobHandle::snapshot)
+                .toList();
+    }
+
+    public Optional<ReplayJob> cancelOrRemove(String jobId) {
+        log.info("Cancelling or removing replay job {}", jobId);
+        return jobs.cancelOrRemove(jobId).map(JobHandle::snapshot);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.shutdown();
+    }
+
+    private void run(JobHandle handle) {
+        List<Message> batch = new ArrayList<>(batchSize);
+        long[] nextBatchAt = {System.nanoTime()};
+        try {
+            journal.replay(handle.query, message -> {
+                batch.add(message);
+                if (batch.size() == batchSize) {
+                    sendPaced(handle, batch, nextBatchAt);
+                }
+            });
+            if (!batch.isEmpty()) {
+                sendPaced(handle, batch, nextBatchAt);
+            }
+            handle.status = handle.cancelRequested ? JobStatus.CANCELLED : JobStatus.COMPLETED;
+        } catch (InterruptedException e) {
+            handle.status = JobStatus.CANCELLED;
+        } catch (Exception e) {
+            log.error("Replay job {} failed", handle.jobId, e);
+            handle.error = e.getMessage();
+            handle.status = JobStatus.FAILED;
+        } finally {
+            handle.finishedAt = Instant.now().toEpochMilli();
+            log.info("Replay job {} finished with status {} after {} messages", handle.jobId, handle.status,
+                    handle.replayed.get());
+        }
+    }
+
+    // Batches go out at a fixed rate, which keeps the client outbound channel from filling up
+    private void sendPaced(JobHandle handle, List<Message> batch, long[] nextBatchAt) throws InterruptedException {
+        long waitNanos = nextBatchAt[0] - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        nextBatchAt[0] = Math.max(nextBatchAt[0], System.nanoTime()) + batchIntervalNanos;
+
+        webSocketHandler.sendReplayBatch(handle.jobId, List.copyOf(batch));
+        handle.replayed.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private static class JobHandle extends JobRegistry.Job {
+        private final JournalQuery query;
+        private final AtomicLong replayed = new AtomicLong();
+
+        JobHandle(JournalQuery query) {
+            this.query = query;
+        }
+
+        ReplayJob snapshot() {
+            return ReplayJob.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .query(query)
+                    .replayedCount(replayed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.LatencySummary;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+// Latency histogram shared by producer threads; fixed memory however many sends a run makes
+public class LatencySamples {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    // Recorded in microseconds, like MetricsService
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+
+    public void record(long latencyNanos) {
+        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(Math.max(0, latencyNanos)));
+    }
+
+    public synchronized LatencySummary summary() {
+        histogram.add(recorder.getIntervalHistogram());
+        return summarize(histogram);
+    }
+
+    public static LatencySummary summarize(Histogram histogramMicros) {
+        long count = histogramMicros.getTotalCount();
+        return LatencySummary.builder()
+                .count(count)
+                .averageMs(count > 0 ? histogramMicros.getMean() / 1000.0 : 0.0)
+                .p50Ms(percentileMs(histogramMicros, 50.0))
+                .p90Ms(percentileMs(histogramMicros, 90.0))
+                .p99Ms(percentileMs(histogramMicros, 99.0))
+                .p999Ms(percentileMs(histogramMicros, 99.9))
+                .maxMs(histogramMicros.getMaxValue() / 1000.0)
+                .build();
+    }
+
+    public static double percentileMs(Histogram histogramMicros, double percentile) {
+        return histogramMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
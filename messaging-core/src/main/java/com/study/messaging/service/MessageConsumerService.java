@@ -0,0 +1,67 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.websocket.MessageWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+// Everything that happens to a consumed message after the transport's listener hands it over
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageConsumerService {
+
+    private final MetricsService metricsService;
+    private final MessageWebSocketHandler webSocketHandler;
+    private final ReceivedMessageStore receivedMessages;
+    private final MessageJournal journal;
+
+    public void consume(Message message) {
+        try {
+            long receivedAt = Instant.now().toEpochMilli();
+            message.setReceivedAt(receivedAt);
+
+            log.debug("Message received: {}", message.getMessageId());
+
+            metricsService.recordMessageReceived(message.getMessageId(), message.getTimestamp(),
+                    MetricsService.intendedTimestamp(message), receivedAt);
+
+            receivedMessages.add(message);
+            journal.append(message);
+
+            webSocketHandler.sendMessage(message);
+        } catch (Exception e) {
+            log.error("Error processing message: {}", message.getMessageId(), e);
+        }
+    }
+
+    public void consumeBatch(List<Message> messages) {
+        try {
+            long receivedAt = Instant.now().toEpochMilli();
+            messages.forEach(message -> message.setReceivedAt(receivedAt));
+
+            log.debug("Batch received: {} messages", messages.size());
+
+            metricsService.recordMessagesReceived(messages, receivedAt);
+
+            receivedMessages.addAll(messages);
+            journal.appendAll(messages);
+
+            messages.forEach(webSocketHandler::sendMessage);
+        } catch (Exception e) {
+            log.error("Error processing batch of {} messages", messages.size(), e);
+        }
+    }
+
+    public ReceivedMessageStore.Page getReceivedMessages(int limit, long since, long before) {
+        return receivedMessages.read(limit, since, before);
+    }
+
+    public void clearMessages() {
+        receivedMessages.clear();
+    }
+}
@@ -0,0 +1,35 @@
+package com.study.messaging.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Time-ordered 128-bit IDs in the UUID version 7 layout. Unlike UUID.randomUUID() they need no
+// SecureRandom lock: 48 bits of epoch millis, a 12-bit per-thread counter, and 62 random bits
+public final class MessageIds {
+
+    private static final ThreadLocal<Clock> CLOCKS = ThreadLocal.withInitial(Clock::new);
+
+    private MessageIds() {
+    }
+
+    public static UUID next() {
+        Clock clock = CLOCKS.get();
+        long now = System.currentTimeMillis();
+        if (now != clock.lastMillis) {
+            clock.lastMillis = now;
+            clock.sequence = 0;
+        } else {
+            // Keeps IDs from one thread ordered within a millisecond; uniqueness rests on the random bits
+            clock.sequence = (clock.sequence + 1) & 0xFFF;
+        }
+
+        long mostSigBits = (now << 16) | 0x7000L | clock.sequence;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static final class Clock {
+        private long lastMillis;
+        private long sequence;
+    }
+}
@@ -0,0 +1,441 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.JournalPage;
+import com.study.messaging.model.JournalQuery;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Append-only journal of consumed messages in memory-mapped segment files.
+// Record layout: int bodyLength, long sequence, long timestamp, long receivedAt, byte format,
+// then messageId, destination and content as int length + UTF-8 bytes (length -1 for null).
+// A zero length marks the end of a segment; the length is written last so a torn record is never read.
+@Slf4j
+@Component
+public class MessageJournal {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_SIZE = Long.BYTES * 3 + 1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSequence;
+
+    public MessageJournal(@Value("${journal.enabled:false}") boolean enabled,
+                          @Value("${journal.directory:./data/journal}") String directory,
+                          @Value("${journal.segment-size-bytes:67108864}") int segmentSize,
+                          @Value("${journal.index-interval:1024}") int indexInterval,
+                          @Value("${journal.max-segments:64}") int maxSegments) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.indexInterval = Math.max(1, indexInterval);
+        this.maxSegments = Math.max(1, maxSegments);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        for (Path path : segmentFiles()) {
+            Segment segment = Segment.recover(path, indexInterval);
+            segments.addLast(segment);
+            nextSequence = Math.max(nextSequence, segment.nextSequence);
+        }
+        log.info("Journal opened at {}: {} segments, next sequence {}", directory, segments.size(), nextSequence);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        segments.forEach(segment -> segment.buffer.force());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void append(Message message) {
+        if (!enabled) {
+            return;
+        }
+        // Encode outside the lock so concurrent listener threads only serialize on the copy
+        byte[] messageId = encode(message.getMessageId());
+        byte[] destination = encode(message.getDestination());
+        byte[] content = encode(message.getContent());
+        int bodySize = HEADER_SIZE + fieldSize(messageId) + fieldSize(destination) + fieldSize(content);
+        int recordSize = Integer.BYTES + bodySize;
+        if (recordSize + Integer.BYTES > segmentSize) {
+            log.warn("Message {} of {} bytes does not fit in a journal segment, skipping",
+                    message.getMessageId(), recordSize);
+            return;
+        }
+
+        long receivedAt = message.getReceivedAt() != null ? message.getReceivedAt() : NO_TIMESTAMP;
+        byte format = message.getFormat() != null ? (byte) message.getFormat().ordinal() : -1;
+        synchronized (this) {
+            try {
+                Segment segment = segments.peekLast();
+                if (segment == null || !segment.hasRoom(recordSize)) {
+                    segment = roll();
+                }
+                segment.append(nextSequence++, message.getTimestamp(), receivedAt, format,
+                        messageId, destination, content, bodySize);
+            } catch (IOException e) {
+                log.error("Failed to append message {} to journal", message.getMessageId(), e);
+            }
+        }
+    }
+
+    public void appendAll(List<Message> messages) {
+        messages.forEach(this::append);
+    }
+
+    public JournalPage read(JournalQuery query) {
+        int limit = query.getLimit() > 0 ? query.getLimit() : DEFAULT_LIMIT;
+        List<Message> messages = new ArrayList<>(Math.min(limit, DEFAULT_LIMIT));
+        List<Long> sequences = new ArrayList<>(Math.min(limit, DEFAULT_LIMIT));
+        boolean[] hasMore = new boolean[1];
+        scan(query, (sequence, message) -> {
+            if (messages.size() == limit) {
+                hasMore[0] = true;
+                return false;
+            }
+            messages.add(message);
+            sequences.add(sequence);
+            return true;
+        });
+
+        long fromSequence = query.getFromSequence() != null ? query.getFromSequence() : 0;
+        return JournalPage.builder()
+                .messages(messages)
+                .sequences(sequences)
+                .nextSequence(sequences.isEmpty() ? fromSequence : sequences.get(sequences.size() - 1) + 1)
+                .hasMore(hasMore[0])
+                .build();
+    }
+
+    public long replay(JournalQuery query, MessageSink sink) throws InterruptedException {
+        long limit = query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE;
+        long[] replayed = new long[1];
+        InterruptedException[] interrupted = new InterruptedException[1];
+        scan(query, (sequence, message) -> {
+            try {
+                sink.accept(message);
+            } catch (InterruptedException e) {
+                interrupted[0] = e;
+                return false;
+            }
+            return ++replayed[0] < limit;
+        });
+        if (interrupted[0] != null) {
+            throw interrupted[0];
+        }
+        return replayed[0];
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("directory", directory.toAbsolutePath().toString());
+        status.put("segments", segments.size());
+        status.put("firstSequence", segments.isEmpty() ? nextSequence : segments.peekFirst().baseSequence);
+        status.put("nextSequence", nextSequence);
+        status.put("sizeBytes", segments.stream().mapToLong(segment -> segment.position).sum());
+        return status;
+    }
+
+    public synchronized void clear() throws IOException {
+        while (!segments.isEmpty()) {
+            Files.deleteIfExists(segments.removeFirst().path);
+        }
+        // Sequences keep increasing so cursors handed out before the clear stay meaningful
+        log.info("Journal cleared, next sequence {}", nextSequence);
+    }
+
+    private void scan(JournalQuery query, RecordVisitor visitor) {
+        long fromSequence = query.getFromSequence() != null ? query.getFromSequence() : 0;
+        long toSequence = query.getToSequence() != null ? query.getToSequence() : Long.MAX_VALUE;
+        long fromTime = query.getFromTime() != null ? query.getFromTime() : Long.MIN_VALUE;
+        long toTime = query.getToTime() != null ? query.getToTime() : Long.MAX_VALUE;
+        String contains = query.getContains() != null && !query.getContains().isBlank() ? query.getContains() : null;
+
+        for (SegmentView segment : snapshot()) {
+            ByteBuffer buffer = segment.buffer();
+            for (Block block : segment.blocks()) {
+                if (block.firstSequence() > toSequence) {
+                    return;
+                }
+                // The sparse index lets whole blocks be skipped without touching their pages
+                if (block.lastSequence() < fromSequence || block.maxTime() < fromTime || block.minTime() > toTime) {
+                    continue;
+                }
+                int position = block.position();
+                while (position < block.end()) {
+                    int body = position + Integer.BYTES;
+                    position = body + buffer.getInt(position);
+                    long sequence = buffer.getLong(body);
+                    if (sequence < fromSequence) {
+                        continue;
+                    }
+                    if (sequence > toSequence) {
+                        return;
+                    }
+                    long time = recordTime(buffer, body);
+                    if (time < fromTime || time > toTime) {
+                        continue;
+                    }
+                    Message message = decode(buffer, body);
+                    if (contains != null && !matches(message, contains)) {
+                        continue;
+                    }
+                    if (!visitor.visit(sequence, message)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized List<SegmentView> snapshot() {
+        List<SegmentView> views = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            views.add(segment.view());
+        }
+        return views;
+    }
+
+    private Segment roll() throws IOException {
+        Segment current = segments.peekLast();
+        if (current != null) {
+            current.buffer.force();
+        }
+        Segment segment = Segment.create(directory.resolve(String.format("%020d%s", nextSequence, SEGMENT_SUFFIX)),
+                nextSequence, segmentSize, indexInterval);
+        segments.addLast(segment);
+        while (segments.size() > maxSegments) {
+            Files.deleteIfExists(segments.removeFirst().path);
+        }
+        return segment;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long recordTime(ByteBuffer buffer, int body) {
+        long receivedAt = buffer.getLong(body + Long.BYTES * 2);
+        return receivedAt != NO_TIMESTAMP ? receivedAt : buffer.getLong(body + Long.BYTES);
+    }
+
+    private static Message decode(ByteBuffer buffer, int body) {
+        long timestamp = buffer.getLong(body + Long.BYTES);
+        long receivedAt = buffer.getLong(body + Long.BYTES * 2);
+        byte format = buffer.get(body + Long.BYTES * 3);
+        int position = body + HEADER_SIZE;
+        String messageId = decodeString(buffer, position);
+        position += fieldSize(buffer, position);
+        String destination = decodeString(buffer, position);
+        position += fieldSize(buffer, position);
+        String content = decodeString(buffer, position);
+
+        return Message.builder()
+                .messageId(messageId)
+                .content(content)
+                .format(format >= 0 ? MessageFormat.values()[format] : null)
+                .destination(destination)
+                .timestamp(timestamp)
+                .receivedAt(receivedAt != NO_TIMESTAMP ? receivedAt : null)
+                .build();
+    }
+
+    private static boolean matches(Message message, String contains) {
+        return (message.getContent() != null && message.getContent().contains(contains))
+                || (message.getMessageId() != null && message.getMessageId().contains(contains));
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int fieldSize(byte[] value) {
+        return Integer.BYTES + (value != null ? value.length : 0);
+    }
+
+    private static int fieldSize(ByteBuffer buffer, int position) {
+        return Integer.BYTES + Math.max(0, buffer.getInt(position));
+    }
+
+    private static String decodeString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    public interface MessageSink {
+        void accept(Message message) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor {
+        boolean visit(long sequence, Message message);
+    }
+
+    private record Block(int position, int end, long firstSequence, long lastSequence, long minTime, long maxTime) {
+    }
+
+    private record SegmentView(ByteBuffer buffer, List<Block> blocks) {
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long baseSequence;
+        private final MappedByteBuffer buffer;
+        private final int indexInterval;
+        private final List<Block> blocks = new ArrayList<>();
+        private int position;
+        private long nextSequence;
+        private int recordCount;
+
+        // Open block of the sparse index, sealed every indexInterval records
+        private int blockPosition;
+        private long blockFirstSequence;
+        private long blockMinTime;
+        private long blockMaxTime;
+
+        private Segment(Path path, long baseSequence, MappedByteBuffer buffer, int indexInterval) {
+            this.path = path;
+            this.baseSequence = baseSequence;
+            this.buffer = buffer;
+            this.indexInterval = indexInterval;
+            this.nextSequence = baseSequence;
+        }
+
+        static Segment create(Path path, long baseSequence, int size, int indexInterval) throws IOException {
+            return new Segment(path, baseSequence, map(path, size), indexInterval);
+        }
+
+        static Segment recover(Path path, int indexInterval) throws IOException {
+            String name = path.getFileName().toString();
+            long baseSequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = new Segment(path, baseSequence, map(path, (int) Files.size(path)), indexInterval);
+            MappedByteBuffer buffer = segment.buffer;
+            while (segment.position + Integer.BYTES <= buffer.capacity()) {
+                int bodySize = buffer.getInt(segment.position);
+                if (bodySize <= 0 || segment.position + Integer.BYTES + bodySize > buffer.capacity()) {
+                    break;
+                }
+                int body = segment.position + Integer.BYTES;
+                segment.index(buffer.getLong(body), recordTime(buffer, body), body + bodySize);
+            }
+            return segment;
+        }
+
+        private static MappedByteBuffer map(Path path, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // The mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+
+        boolean hasRoom(int recordSize) {
+            // Keep four zero bytes after the last record as the end marker
+            return position + recordSize + Integer.BYTES <= buffer.capacity();
+        }
+
+        void append(long sequence, long timestamp, long receivedAt, byte format,
+                    byte[] messageId, byte[] destination, byte[] content, int bodySize) {
+            int body = position + Integer.BYTES;
+            buffer.putLong(body, sequence);
+            buffer.putLong(body + Long.BYTES, timestamp);
+            buffer.putLong(body + Long.BYTES * 2, receivedAt);
+            buffer.put(body + Long.BYTES * 3, format);
+            int field = body + HEADER_SIZE;
+            field = putField(field, messageId);
+            field = putField(field, destination);
+            putField(field, content);
+            buffer.putInt(position, bodySize);
+            index(sequence, receivedAt != NO_TIMESTAMP ? receivedAt : timestamp, body + bodySize);
+        }
+
+        private int putField(int field, byte[] value) {
+            if (value == null) {
+                buffer.putInt(field, -1);
+                return field + Integer.BYTES;
+            }
+            buffer.putInt(field, value.length);
+            buffer.put(field + Integer.BYTES, value);
+            return field + Integer.BYTES + value.length;
+        }
+
+        private void index(long sequence, long time, int end) {
+            if (recordCount % indexInterval == 0) {
+                if (recordCount > 0) {
+                    blocks.add(openBlock());
+                }
+                blockPosition = position;
+                blockFirstSequence = sequence;
+                blockMinTime = time;
+                blockMaxTime = time;
+            } else {
+                blockMinTime = Math.min(blockMinTime, time);
+                blockMaxTime = Math.max(blockMaxTime, time);
+            }
+            recordCount++;
+            position = end;
+            nextSequence = sequence + 1;
+        }
+
+        private Block openBlock() {
+            return new Block(blockPosition, position, blockFirstSequence, nextSequence - 1, blockMinTime, blockMaxTime);
+        }
+
+        SegmentView view() {
+            List<Block> view = new ArrayList<>(blocks.size() + 1);
+            view.addAll(blocks);
+            if (recordCount > 0) {
+                view.add(openBlock());
+            }
+            return new SegmentView(buffer, view);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.study.messaging.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A bulk messageTemplate split around {index} once, so expanding it is only appends
+public final class MessageTemplate {
+
+    private static final String PLACEHOLDER = "{index}";
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    // One more literal than there are placeholders; literals[i] precedes the i-th index
+    private final String[] literals;
+
+    private MessageTemplate(String[] literals) {
+        this.literals = literals;
+    }
+
+    public static MessageTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        int from = 0;
+        int at;
+        while ((at = template.indexOf(PLACEHOLDER, from)) >= 0) {
+            literals.add(template.substring(from, at));
+            from = at + PLACEHOLDER.length();
+        }
+        literals.add(template.substring(from));
+        return new MessageTemplate(literals.toArray(String[]::new));
+    }
+
+    public String expand(int index) {
+        if (literals.length == 1) {
+            return literals[0];
+        }
+
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        buffer.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            buffer.append(index).append(literals[i]);
+        }
+        String expanded = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            // Don't let one huge template pin a large buffer on a pooled thread
+            BUFFERS.remove();
+        }
+        return expanded;
+    }
+}
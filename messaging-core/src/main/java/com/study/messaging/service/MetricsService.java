@@ -0,0 +1,240 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageStats;
+import com.study.messaging.model.TimeSeriesPoint;
+import com.study.messaging.transport.TransportMetrics;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class MetricsService {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final AtomicLong totalSent = new AtomicLong(0);
+    private final AtomicLong totalReceived = new AtomicLong(0);
+    // Latencies are recorded in microseconds; writers never block readers
+    private final Recorder latencyRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram runHistogram = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram secondHistogram = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram intervalHistogram;
+    // Measured from the intended send time where the sender stamped one, so stalls count against every queued send
+    private final Recorder correctedRecorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram correctedRunHistogram = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram correctedIntervalHistogram;
+    private final ThroughputTimeSeries timeSeries;
+    private long lastPointAt = Instant.now().toEpochMilli();
+    private long lastPointSent;
+    private long lastPointReceived;
+    private final InFlightTracker inFlight;
+    private final List<TransportMetrics> transportMetrics;
+    private final long inFlightTtlMs;
+    private final AtomicLong expiredCount = new AtomicLong(0);
+    private final AtomicLong unmatchedCount = new AtomicLong(0);
+    private final AtomicLong untrackedCount = new AtomicLong(0);
+    private volatile long startTime = Instant.now().toEpochMilli();
+    private volatile long lastMessageTimestamp = 0;
+
+    public MetricsService(@Value("${metrics.in-flight.capacity:1048576}") int inFlightCapacity,
+                          @Value("${metrics.in-flight.ttl-ms:60000}") long inFlightTtlMs,
+                          @Value("${metrics.timeseries.window-seconds:600}") int timeSeriesWindowSeconds,
+                          List<TransportMetrics> transportMetrics) {
+        this.transportMetrics = transportMetrics;
+        this.inFlight = new InFlightTracker(inFlightCapacity);
+        this.inFlightTtlMs = inFlightTtlMs;
+        this.timeSeries = new ThroughputTimeSeries(timeSeriesWindowSeconds);
+    }
+
+    public void recordMessageSent(String messageId, long timestamp) {
+        UUID id = parseId(messageId);
+        if (id == null) {
+            totalSent.incrementAndGet();
+            untrackedCount.incrementAndGet();
+            lastMessageTimestamp = timestamp;
+            return;
+        }
+        recordMessageSent(id.getMostSignificantBits(), id.getLeastSignificantBits(), timestamp);
+    }
+
+    // For senders that generated the ID themselves and can skip parsing it back
+    public void recordMessageSent(long idHigh, long idLow, long timestamp) {
+        totalSent.incrementAndGet();
+        if (!inFlight.track(idHigh, idLow, timestamp)) {
+            untrackedCount.incrementAndGet();
+        }
+        lastMessageTimestamp = timestamp;
+    }
+
+    // Latency comes from the send timestamp carried in the message, so it works across instances
+    public void recordMessageReceived(String messageId, long sentTimestamp, long timestamp) {
+        recordMessageReceived(messageId, sentTimestamp, sentTimestamp, timestamp);
+    }
+
+    public void recordMessageReceived(String messageId, long sentTimestamp, long intendedTimestamp, long timestamp) {
+        totalReceived.incrementAndGet();
+        recordLatency(sentTimestamp, intendedTimestamp, timestamp);
+        UUID id = parseId(messageId);
+        if (id == null || !inFlight.complete(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+            unmatchedCount.incrementAndGet();
+        }
+        lastMessageTimestamp = timestamp;
+    }
+
+    public void recordMessagesReceived(List<Message> messages, long timestamp) {
+        totalReceived.addAndGet(messages.size());
+        for (Message message : messages) {
+            recordLatency(message.getTimestamp(), intendedTimestamp(message), timestamp);
+            UUID id = parseId(message.getMessageId());
+            if (id == null || !inFlight.complete(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                unmatchedCount.incrementAndGet();
+            }
+        }
+        lastMessageTimestamp = timestamp;
+    }
+
+    public static long intendedTimestamp(Message message) {
+        return message.getIntendedTimestamp() != null ? message.getIntendedTimestamp() : message.getTimestamp();
+    }
+
+    private void recordLatency(long sentTimestamp, long intendedTimestamp, long timestamp) {
+        if (sentTimestamp > 0) {
+            latencyRecorder.recordValue(TimeUnit.MILLISECONDS.toMicros(Math.max(0, timestamp - sentTimestamp)));
+        }
+        if (intendedTimestamp > 0) {
+            correctedRecorder.recordValue(TimeUnit.MILLISECONDS.toMicros(Math.max(0, timestamp - intendedTimestamp)));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${metrics.in-flight.sweep-interval-ms:1000}")
+    public void expireInFlight() {
+        int expired = inFlight.expireOlderThan(Instant.now().toEpochMilli() - inFlightTtlMs);
+        if (expired > 0) {
+            expiredCount.addAndGet(expired);
+        }
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public synchronized void recordTimeSeriesPoint() {
+        drainLatencies();
+        long now = Instant.now().toEpochMilli();
+        long sent = totalSent.get();
+        long received = totalReceived.get();
+        long durationMs = Math.max(1, now - lastPointAt);
+
+        timeSeries.add(TimeSeriesPoint.builder()
+                .timestamp(now)
+                .durationMs(durationMs)
+                .sent(sent - lastPointSent)
+                .received(received - lastPointReceived)
+                .sendRate((sent - lastPointSent) * 1000.0 / durationMs)
+                .receiveRate((received - lastPointReceived) * 1000.0 / durationMs)
+                .latencyCount(secondHistogram.getTotalCount())
+                .p50LatencyMs(LatencySamples.percentileMs(secondHistogram, 50.0))
+                .p99LatencyMs(LatencySamples.percentileMs(secondHistogram, 99.0))
+                .maxLatencyMs(secondHistogram.getMaxValue() / 1000.0)
+                .build());
+
+        secondHistogram.reset();
+        lastPointAt = now;
+        lastPointSent = sent;
+        lastPointReceived = received;
+    }
+
+    public List<TimeSeriesPoint> getTimeSeries(int seconds) {
+        return timeSeries.latest(seconds);
+    }
+
+    public long getTotalReceived() {
+        return totalReceived.get();
+    }
+
+    public MessageStats getStats() {
+        LatencySnapshot snapshot = snapshotLatencies();
+        MessageStats stats = MessageStats.builder()
+                .totalSent(totalSent.get())
+                .totalReceived(totalReceived.get())
+                .throughput(calculateThroughput())
+                .lastMessageTimestamp(lastMessageTimestamp)
+                .uncorrectedLatency(LatencySamples.summarize(snapshot.uncorrected()))
+                .correctedLatency(LatencySamples.summarize(snapshot.corrected()))
+                .inFlightCount(inFlight.size())
+                .expiredCount(expiredCount.get())
+                .unmatchedCount(unmatchedCount.get())
+                .untrackedCount(untrackedCount.get())
+                .sendRate1s(timeSeries.rate(1, TimeSeriesPoint::getSent))
+                .sendRate10s(timeSeries.rate(10, TimeSeriesPoint::getSent))
+                .sendRate60s(timeSeries.rate(60, TimeSeriesPoint::getSent))
+                .receiveRate1s(timeSeries.rate(1, TimeSeriesPoint::getReceived))
+                .receiveRate10s(timeSeries.rate(10, TimeSeriesPoint::getReceived))
+                .receiveRate60s(timeSeries.rate(60, TimeSeriesPoint::getReceived))
+                .build();
+        transportMetrics.forEach(metrics -> stats.getDetails().putAll(metrics.snapshot()));
+        return stats;
+    }
+
+    public synchronized void reset() {
+        totalSent.set(0);
+        totalReceived.set(0);
+        latencyRecorder.reset();
+        runHistogram.reset();
+        secondHistogram.reset();
+        correctedRecorder.reset();
+        correctedRunHistogram.reset();
+        timeSeries.clear();
+        inFlight.clear();
+        transportMetrics.forEach(TransportMetrics::reset);
+        expiredCount.set(0);
+        unmatchedCount.set(0);
+        untrackedCount.set(0);
+        startTime = Instant.now().toEpochMilli();
+        lastMessageTimestamp = 0;
+        lastPointAt = startTime;
+        lastPointSent = 0;
+        lastPointReceived = 0;
+    }
+
+    private synchronized LatencySnapshot snapshotLatencies() {
+        drainLatencies();
+        return new LatencySnapshot(runHistogram.copy(), correctedRunHistogram.copy());
+    }
+
+    private void drainLatencies() {
+        intervalHistogram = latencyRecorder.getIntervalHistogram(intervalHistogram);
+        runHistogram.add(intervalHistogram);
+        secondHistogram.add(intervalHistogram);
+        correctedIntervalHistogram = correctedRecorder.getIntervalHistogram(correctedIntervalHistogram);
+        correctedRunHistogram.add(correctedIntervalHistogram);
+    }
+
+    private static UUID parseId(String messageId) {
+        if (messageId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(messageId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private double calculateThroughput() {
+        long elapsedMs = Instant.now().toEpochMilli() - startTime;
+        if (elapsedMs <= 0) {
+            return 0.0;
+        }
+        return totalReceived.get() * 1000.0 / elapsedMs;
+    }
+
+    private record LatencySnapshot(Histogram uncorrected, Histogram corrected) {
+    }
+}
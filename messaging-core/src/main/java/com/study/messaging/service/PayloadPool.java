@@ -0,0 +1,170 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.PayloadContent;
+import com.study.messaging.model.PayloadSizeProfile;
+import com.study.messaging.model.PayloadSpec;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Payloads generated once before a bulk send, so the send loop only indexes into them
+public class PayloadPool {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final String[] WORDS = {
+            "order", "customer", "status", "pending", "shipped", "amount", "currency", "item",
+            "quantity", "price", "total", "created", "updated", "region", "warehouse", "priority"
+    };
+    private static final int MAX_POOL_SIZE = 65_536;
+    private static final long MAX_POOL_BYTES = 256L * 1024 * 1024;
+    private static final int MAX_JSON_DEPTH = 64;
+    private static final int JSON_ID_LENGTH = 8;
+
+    // Generation is deterministic per spec, so repeated runs of the same spec share one pool
+    private static final AtomicReference<CachedPool> LAST_POOL = new AtomicReference<>();
+
+    private final String[] payloads;
+    private final long totalBytes;
+
+    private PayloadPool(String[] payloads) {
+        this.payloads = payloads;
+        long bytes = 0;
+        for (String payload : payloads) {
+            bytes += payload.length();
+        }
+        this.totalBytes = bytes;
+    }
+
+    public static PayloadPool forSpec(PayloadSpec spec) {
+        CachedPool cached = LAST_POOL.get();
+        if (cached != null && cached.spec().equals(spec)) {
+            return cached.pool();
+        }
+        PayloadPool pool = generate(spec);
+        LAST_POOL.set(new CachedPool(spec.toBuilder().build(), pool));
+        return pool;
+    }
+
+    public static PayloadPool generate(PayloadSpec spec) {
+        validate(spec);
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        String[] payloads = new String[spec.getPoolSize()];
+        for (int i = 0; i < payloads.length; i++) {
+            int size = nextSize(spec, random);
+            payloads[i] = switch (spec.getContent()) {
+                case RANDOM -> randomText(size, random);
+                case COMPRESSIBLE -> compressibleText(size, random);
+                case JSON -> jsonDocument(size, spec.getJsonDepth(), random);
+            };
+        }
+        return new PayloadPool(payloads);
+    }
+
+    public String get(int index) {
+        return payloads[Math.floorMod(index, payloads.length)];
+    }
+
+    public int size() {
+        return payloads.length;
+    }
+
+    public double averageBytes() {
+        return (double) totalBytes / payloads.length;
+    }
+
+    private static int nextSize(PayloadSpec spec, SplittableRandom random) {
+        return switch (spec.getSizeProfile()) {
+            case FIXED -> spec.getSizeBytes();
+            case UNIFORM -> random.nextInt(spec.getMinBytes(), spec.getMaxBytes() + 1);
+            case RECORDED -> spec.getRecordedSizes().get(random.nextInt(spec.getRecordedSizes().size()));
+        };
+    }
+
+    private static String randomText(int size, SplittableRandom random) {
+        StringBuilder text = new StringBuilder(size);
+        appendRandom(text, size, random);
+        return text.toString();
+    }
+
+    private static String compressibleText(int size, SplittableRandom random) {
+        StringBuilder text = new StringBuilder(size + 16);
+        while (text.length() < size) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        text.setLength(size);
+        return text.toString();
+    }
+
+    // Nested objects down to a leaf whose data field pads the document to size;
+    // a size smaller than the nesting itself yields the bare nesting
+    private static String jsonDocument(int size, int depth, SplittableRandom random) {
+        StringBuilder json = new StringBuilder(size + 32);
+        for (int level = 0; level < depth; level++) {
+            json.append("{\"level\":").append(level).append(",\"id\":\"");
+            appendRandom(json, JSON_ID_LENGTH, random);
+            json.append("\",\"child\":");
+        }
+        json.append("{\"data\":\"");
+        int padding = size - json.length() - "\"}".length() - depth;
+        appendRandom(json, Math.max(0, padding), random);
+        json.append("\"}");
+        json.append("}".repeat(depth));
+        return json.toString();
+    }
+
+    private static void appendRandom(StringBuilder target, int length, SplittableRandom random) {
+        for (int i = 0; i < length; i++) {
+            target.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+    }
+
+    private static void validate(PayloadSpec spec) {
+        if (spec.getSizeProfile() == null || spec.getContent() == null) {
+            throw new IllegalArgumentException("payload sizeProfile and content are required");
+        }
+        if (spec.getPoolSize() < 1 || spec.getPoolSize() > MAX_POOL_SIZE) {
+            throw new IllegalArgumentException("payload poolSize must be between 1 and " + MAX_POOL_SIZE);
+        }
+        if (spec.getContent() == PayloadContent.JSON
+                && (spec.getJsonDepth() < 0 || spec.getJsonDepth() > MAX_JSON_DEPTH)) {
+            throw new IllegalArgumentException("payload jsonDepth must be between 0 and " + MAX_JSON_DEPTH);
+        }
+
+        int largest = switch (spec.getSizeProfile()) {
+            case FIXED -> {
+                requirePositive(spec.getSizeBytes(), "sizeBytes");
+                yield spec.getSizeBytes();
+            }
+            case UNIFORM -> {
+                requirePositive(spec.getMinBytes(), "minBytes");
+                if (spec.getMaxBytes() < spec.getMinBytes()) {
+                    throw new IllegalArgumentException("payload maxBytes must not be below minBytes");
+                }
+                yield spec.getMaxBytes();
+            }
+            case RECORDED -> {
+                List<Integer> sizes = spec.getRecordedSizes();
+                if (sizes == null || sizes.isEmpty()) {
+                    throw new IllegalArgumentException("payload recordedSizes is required for RECORDED");
+                }
+                sizes.forEach(size -> requirePositive(size == null ? 0 : size, "recordedSizes"));
+                yield sizes.stream().mapToInt(Integer::intValue).max().orElseThrow();
+            }
+        };
+        if ((long) largest * spec.getPoolSize() > MAX_POOL_BYTES) {
+            throw new IllegalArgumentException("payload pool would exceed " + MAX_POOL_BYTES
+                    + " bytes; lower poolSize or the payload size");
+        }
+    }
+
+    private static void requirePositive(int value, String field) {
+        if (value < 1) {
+            throw new IllegalArgumentException("payload " + field + " must be positive");
+        }
+    }
+
+    private record CachedPool(PayloadSpec spec, PayloadPool pool) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.messaging.service;
+
+import java.lang.management.ManagementFactory;
+
+// Process-wide CPU time and heap allocation, so a trial's cost covers producers and consumers alike
+public record ProcessResources(long cpuNanos, long allocatedBytes) {
+
+    private static final com.sun.management.OperatingSystemMXBean OS =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static ProcessResources sample() {
+        // Virtual threads allocate on their carriers, which the total includes
+        long allocated = THREADS.isThreadAllocatedMemorySupported() ? THREADS.getTotalThreadAllocatedBytes() : -1;
+        return new ProcessResources(OS.getProcessCpuTime(), allocated);
+    }
+
+    public ProcessResources since(ProcessResources start) {
+        return new ProcessResources(cpuNanos - start.cpuNanos,
+                allocatedBytes < 0 || start.allocatedBytes < 0 ? -1 : allocatedBytes - start.allocatedBytes);
+    }
+}
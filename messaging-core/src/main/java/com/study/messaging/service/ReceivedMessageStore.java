@@ -0,0 +1,101 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Component
+public class ReceivedMessageStore {
+
+    private static final long WRITING = -1;
+
+    private final int capacity;
+    private final AtomicReferenceArray<Message> messages;
+    // Sequence stored in each slot; WRITING while a writer is filling it in
+    private final AtomicLongArray sequences;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long clearedBefore;
+
+    public ReceivedMessageStore(@Value("${messages.received.capacity:1000}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.messages = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, WRITING);
+        }
+    }
+
+    public void add(Message message) {
+        // Concurrent listener threads only contend on the sequence counter
+        long sequence = nextSequence.getAndIncrement();
+        int slot = (int) (sequence % capacity);
+        sequences.set(slot, WRITING);
+        messages.set(slot, message);
+        sequences.set(slot, sequence);
+    }
+
+    public void addAll(List<Message> batch) {
+        for (Message message : batch) {
+            add(message);
+        }
+    }
+
+    // Newest first, only messages after the since cursor and below the before cursor.
+    // Pass the returned cursor back as since to poll for newer ones, and before back as before to page older ones
+    public Page read(int limit, long since) {
+        return read(limit, since, Long.MAX_VALUE);
+    }
+
+    public Page read(int limit, long since, long before) {
+        long newest = Math.min(nextSequence.get(), before) - 1;
+        long oldest = Math.max(Math.max(clearedBefore, since + 1), newest - capacity + 1);
+        long cursor = Math.max(newest, since);
+        int expected = (int) Math.max(0, Math.min(limit, newest - oldest + 1));
+        List<Message> result = new ArrayList<>(expected);
+
+        long sequence = newest;
+        boolean overwritten = false;
+        for (; sequence >= oldest && result.size() < limit; sequence--) {
+            int slot = (int) (sequence % capacity);
+            long seqBefore = sequences.get(slot);
+            Message message = messages.get(slot);
+            long seqAfter = sequences.get(slot);
+            if (seqBefore == sequence && seqAfter == sequence) {
+                result.add(message);
+            } else if (seqBefore > sequence || seqAfter > sequence) {
+                // Overwritten by a newer message, everything older is gone too
+                overwritten = true;
+                break;
+            } else {
+                // Claimed but not yet written; restart below it so the cursor never skips it
+                result.clear();
+                cursor = Math.max(sequence - 1, since);
+            }
+        }
+        // The loop stops one below the oldest message it kept
+        long pageBefore = result.isEmpty() ? newest + 1 : sequence + 1;
+        return new Page(result, cursor, pageBefore, !overwritten && sequence >= oldest);
+    }
+
+    public int size() {
+        long newest = nextSequence.get();
+        return (int) Math.min(capacity, newest - Math.min(clearedBefore, newest));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        clearedBefore = nextSequence.get();
+    }
+
+    public record Page(List<Message> messages, long cursor, long before, boolean hasMore) {
+    }
+}
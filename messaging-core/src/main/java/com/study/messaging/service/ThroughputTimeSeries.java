@@ -0,0 +1,52 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.TimeSeriesPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+public class ThroughputTimeSeries {
+
+    private final TimeSeriesPoint[] points;
+    private int next;
+    private int size;
+
+    public ThroughputTimeSeries(int capacity) {
+        this.points = new TimeSeriesPoint[Math.max(1, capacity)];
+    }
+
+    public synchronized void add(TimeSeriesPoint point) {
+        points[next] = point;
+        next = (next + 1) % points.length;
+        size = Math.min(size + 1, points.length);
+    }
+
+    public synchronized List<TimeSeriesPoint> latest(int count) {
+        int n = Math.min(Math.max(0, count), size);
+        List<TimeSeriesPoint> result = new ArrayList<>(n);
+        for (int i = n; i > 0; i--) {
+            result.add(points[Math.floorMod(next - i, points.length)]);
+        }
+        return result;
+    }
+
+    public synchronized double rate(int seconds, ToLongFunction<TimeSeriesPoint> counter) {
+        long total = 0;
+        long durationMs = 0;
+        long windowMs = seconds * 1000L;
+        for (int i = 1; i <= size && durationMs < windowMs; i++) {
+            TimeSeriesPoint point = points[Math.floorMod(next - i, points.length)];
+            total += counter.applyAsLong(point);
+            durationMs += point.getDurationMs();
+        }
+        return durationMs > 0 ? total * 1000.0 / durationMs : 0.0;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(points, null);
+        next = 0;
+        size = 0;
+    }
+}
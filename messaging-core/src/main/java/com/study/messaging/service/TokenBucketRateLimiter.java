@@ -0,0 +1,75 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.BulkSendMode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class TokenBucketRateLimiter {
+
+    // Allow up to 10ms worth of tokens to accumulate so short stalls are caught up
+    private static final long BURST_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final boolean fixedTimeline;
+    private final AtomicLong nextTokenAt;
+
+    public TokenBucketRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, false);
+    }
+
+    // On a fixed timeline, slots a stalled sender missed are never skipped: token k is always due at
+    // start + k * interval, so each send keeps the time it was meant to happen at
+    public TokenBucketRateLimiter(double permitsPerSecond, boolean fixedTimeline) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = Math.max(intervalNanos, BURST_WINDOW_NANOS) - intervalNanos;
+        this.fixedTimeline = fixedTimeline;
+        this.nextTokenAt = new AtomicLong(System.nanoTime());
+    }
+
+    public static TokenBucketRateLimiter forRequest(BulkMessageRequest request) {
+        if (request.getMode() == BulkSendMode.OPEN_LOOP) {
+            if (request.getTargetRate() <= 0) {
+                throw new IllegalArgumentException("OPEN_LOOP mode requires a positive targetRate");
+            }
+            return new TokenBucketRateLimiter(request.getTargetRate(), true);
+        }
+        if (request.getTargetRate() > 0) {
+            return new TokenBucketRateLimiter(request.getTargetRate());
+        }
+        if (request.getDelayMs() > 0) {
+            return new TokenBucketRateLimiter(1000.0 / request.getDelayMs());
+        }
+        return null;
+    }
+
+    // Returns the System.nanoTime() the token was due at, which is the send's intended time
+    public long acquire() throws InterruptedException {
+        long now = System.nanoTime();
+        long tokenAt;
+        while (true) {
+            long next = nextTokenAt.get();
+            long earliest = now - burstNanos;
+            tokenAt = fixedTimeline || next - earliest > 0 ? next : earliest;
+            if (nextTokenAt.compareAndSet(next, tokenAt + intervalNanos)) {
+                break;
+            }
+        }
+
+        long waitNanos = tokenAt - now;
+        while (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitNanos = tokenAt - System.nanoTime();
+        }
+        return tokenAt;
+    }
+}
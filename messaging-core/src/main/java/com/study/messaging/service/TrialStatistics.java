@@ -0,0 +1,59 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.MetricSummary;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+// Mean and Student-t 95% confidence interval over a handful of benchmark trials
+public final class TrialStatistics {
+
+    // Two-sided 97.5% quantiles for 1..30 degrees of freedom; beyond that the normal 1.96 is close enough
+    private static final double[] T_CRITICAL = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private TrialStatistics() {
+    }
+
+    public static <T> MetricSummary summarize(List<T> trials, ToDoubleFunction<T> metric) {
+        double[] values = trials.stream().mapToDouble(metric).toArray();
+        int n = values.length;
+        if (n == 0) {
+            return MetricSummary.builder().build();
+        }
+
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : values) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double mean = sum / n;
+
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        double stdDev = n > 1 ? Math.sqrt(squares / (n - 1)) : 0;
+        double halfWidth = n > 1 ? tCritical(n - 1) * stdDev / Math.sqrt(n) : 0;
+
+        return MetricSummary.builder()
+                .samples(n)
+                .mean(mean)
+                .stdDev(stdDev)
+                .min(min)
+                .max(max)
+                .ciLow(mean - halfWidth)
+                .ciHigh(mean + halfWidth)
+                .build();
+    }
+
+    private static double tCritical(int degreesOfFreedom) {
+        return degreesOfFreedom <= T_CRITICAL.length ? T_CRITICAL[degreesOfFreedom - 1] : 1.96;
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.messaging.transport;
+
+import com.study.messaging.model.BenchmarkScenario;
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.BulkMessageResponse;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageSendResponse;
+import com.study.messaging.service.BulkProgress;
+
+import java.util.Map;
+
+// Broker-specific publishing; consumers hand what they receive to MessageConsumerService
+public interface MessageTransport {
+
+    String name();
+
+    MessageSendResponse send(Message message);
+
+    BulkMessageResponse sendBulk(BulkMessageRequest request, BulkProgress progress);
+
+    // Publishes a bulk request will make, which exceeds count when the transport fans out
+    default int plannedSends(BulkMessageRequest request) {
+        return request.getCount();
+    }
+
+    // Maps a benchmark's consumer count and durability onto broker settings; returns what was applied
+    default Map<String, Object> applyScenario(BenchmarkScenario scenario) {
+        return Map.of();
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.messaging.transport;
+
+import java.util.Map;
+
+// Broker-specific counters merged into MessageStats, e.g. per partition or per queue
+public interface TransportMetrics {
+
+    Map<String, Object> snapshot();
+
+    void reset();
+}
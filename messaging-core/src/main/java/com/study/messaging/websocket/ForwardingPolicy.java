@@ -0,0 +1,6 @@
+package com.study.messaging.websocket;
+
+public enum ForwardingPolicy {
+    DROP,
+    SAMPLE
+}
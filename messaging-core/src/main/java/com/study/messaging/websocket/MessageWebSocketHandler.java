@@ -0,0 +1,119 @@
+package com.study.messaging.websocket;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class MessageWebSocketHandler {
+
+    public static final String MESSAGES_DESTINATION = "/topic/messages";
+    public static final String REPLAY_DESTINATION = "/topic/replay";
+    public static final String BATCH_SIZE_HEADER = "batch-size";
+    public static final String REPLAY_JOB_HEADER = "replay-job";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BlockingQueue<Message> pendingMessages;
+    private final int maxBatchSize;
+    private final ForwardingPolicy policy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final AtomicLong forwardedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong sampledOutCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    public MessageWebSocketHandler(SimpMessagingTemplate messagingTemplate,
+                                   @Value("${websocket.messages.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${websocket.messages.max-batch-size:500}") int maxBatchSize,
+                                   @Value("${websocket.messages.policy:SAMPLE}") ForwardingPolicy policy,
+                                   @Value("${websocket.messages.sample-rate:10}") int sampleRate) {
+        this.messagingTemplate = messagingTemplate;
+        this.pendingMessages = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.policy = policy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.sampleThreshold = queueCapacity / 2;
+    }
+
+    // Called on the listener thread: never blocks, drops or samples when the UI falls behind
+    public void sendMessage(Message message) {
+        if (policy == ForwardingPolicy.SAMPLE
+                && pendingMessages.size() >= sampleThreshold
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            sampledOutCount.incrementAndGet();
+            return;
+        }
+        if (!pendingMessages.offer(message)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    // Journal replays bypass the live queue and its per-session dropping; the caller paces the batches
+    public void sendReplayBatch(String jobId, List<Message> batch) {
+        messagingTemplate.convertAndSend(REPLAY_DESTINATION, batch, Map.<String, Object>of(
+                BATCH_SIZE_HEADER, String.valueOf(batch.size()),
+                REPLAY_JOB_HEADER, jobId));
+    }
+
+    @Scheduled(fixedRateString = "${websocket.messages.flush-interval-ms:100}")
+    public void flushMessages() {
+        int remaining = pendingMessages.size();
+        while (remaining > 0) {
+            List<Message> batch = new ArrayList<>(Math.min(maxBatchSize, remaining));
+            if (pendingMessages.drainTo(batch, maxBatchSize) == 0) {
+                break;
+            }
+            remaining -= batch.size();
+            try {
+                messagingTemplate.convertAndSend(MESSAGES_DESTINATION, batch,
+                        Map.<String, Object>of(BATCH_SIZE_HEADER, String.valueOf(batch.size())));
+                forwardedCount.addAndGet(batch.size());
+                batchCount.incrementAndGet();
+                log.debug("Forwarded batch of {} messages to WebSocket", batch.size());
+            } catch (Exception e) {
+                droppedCount.addAndGet(batch.size());
+                log.error("Failed to send message batch via WebSocket", e);
+            }
+        }
+    }
+
+    public Map<String, Long> getForwardingStats() {
+        return Map.of(
+                "queued", (long) pendingMessages.size(),
+                "forwarded", forwardedCount.get(),
+                "batches", batchCount.get(),
+                "dropped", droppedCount.get(),
+                "sampledOut", sampledOutCount.get()
+        );
+    }
+
+    public void sendStats(MessageStats stats) {
+        try {
+            messagingTemplate.convertAndSend("/topic/stats", stats);
+        } catch (Exception e) {
+            log.error("Failed to send stats via WebSocket", e);
+        }
+    }
+
+    public void sendEvent(String event) {
+        try {
+            messagingTemplate.convertAndSend("/topic/events", event);
+        } catch (Exception e) {
+            log.error("Failed to send event via WebSocket", e);
+        }
+    }
+}
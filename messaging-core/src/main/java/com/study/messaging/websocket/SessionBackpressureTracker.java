@@ -0,0 +1,121 @@
+package com.study.messaging.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class SessionBackpressureTracker implements ChannelInterceptor {
+
+    private static final String MESSAGES_FRAME_MARKER = "\ndestination:" + MessageWebSocketHandler.MESSAGES_DESTINATION + "\n";
+
+    private final int maxPendingBatches;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    public SessionBackpressureTracker(@Value("${websocket.messages.max-pending-batches-per-session:4}") int maxPendingBatches) {
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
+    // Outbound batches for a session that has not yet written the previous ones to its socket are dropped
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || !MessageWebSocketHandler.MESSAGES_DESTINATION.equals(accessor.getDestination())) {
+            return message;
+        }
+        SessionState state = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        if (state == null) {
+            return message;
+        }
+        if (state.queued.get() - state.written.get() >= maxPendingBatches) {
+            String batchSize = accessor.getFirstNativeHeader(MessageWebSocketHandler.BATCH_SIZE_HEADER);
+            state.droppedMessages.addAndGet(batchSize != null ? Long.parseLong(batchSize) : 1);
+            state.droppedBatches.incrementAndGet();
+            return null;
+        }
+        state.queued.incrementAndGet();
+        return message;
+    }
+
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState();
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new CountingSessionDecorator(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null && state.droppedMessages.get() > 0) {
+                    log.info("WebSocket session {} closed after {} dropped messages", session.getId(),
+                            state.droppedMessages.get());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public Map<String, Map<String, Long>> getSessionStats() {
+        return sessions.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> Map.of(
+                        "pendingBatches", entry.getValue().queued.get() - entry.getValue().written.get(),
+                        "droppedBatches", entry.getValue().droppedBatches.get(),
+                        "droppedMessages", entry.getValue().droppedMessages.get()
+                )));
+    }
+
+    private static class SessionState {
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private final AtomicLong droppedBatches = new AtomicLong();
+        private final AtomicLong droppedMessages = new AtomicLong();
+    }
+
+    // Sits under Spring's concurrent session decorator, so it only sees frames actually written to the socket
+    private static class CountingSessionDecorator extends WebSocketSessionDecorator {
+        private final SessionState state;
+
+        CountingSessionDecorator(WebSocketSession session, SessionState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            if (message instanceof TextMessage textMessage && isMessagesFrame(textMessage)) {
+                state.written.incrementAndGet();
+            }
+        }
+
+        private static boolean isMessagesFrame(TextMessage message) {
+            String payload = message.getPayload();
+            return payload.startsWith("MESSAGE\n")
+                    && payload.substring(0, Math.min(payload.length(), 512)).contains(MESSAGES_FRAME_MARKER);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.messaging.websocket;
+
+import com.study.messaging.model.MessageStats;
+import com.study.messaging.service.MetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsPublisher {
+
+    private final MetricsService metricsService;
+    private final MessageWebSocketHandler webSocketHandler;
+    private StatsKey lastPublished;
+
+    @Scheduled(fixedRateString = "${websocket.stats.interval-ms:250}")
+    public void publishStats() {
+        MessageStats stats = metricsService.getStats();
+        // Throughput and the moving rates drift with the clock, so only the counters decide whether anything changed
+        StatsKey key = new StatsKey(stats.getTotalSent(), stats.getTotalReceived(),
+                stats.getUncorrectedLatency().getCount(), stats.getLastMessageTimestamp());
+        if (key.equals(lastPublished)) {
+            return;
+        }
+        webSocketHandler.sendStats(stats);
+        lastPublished = key;
+    }
+
+    private record StatsKey(long totalSent, long totalReceived, long latencyCount, long lastMessageTimestamp) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.messaging.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageCodecRoundTripTest {
+
+    static List<MessageCodec> codecs() {
+        return List.of(new JsonMessageCodec(new ObjectMapper()), new BinaryMessageCodec(), new ProtobufMessageCodec());
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTripsAllFields(MessageCodec codec) {
+        Message message = Message.builder()
+                .messageId("0190f3a2-7c4e-7d21-9a3b-5f2e8c1d4a6b")
+                .content("h\u00e9llo w\u00f6rld \ud83d\ude80")
+                .format(MessageFormat.JSON)
+                .destination("messaging.study.queue")
+                .timestamp(1_700_000_000_000L)
+                .intendedTimestamp(1_699_999_999_990L)
+                .receivedAt(1_700_000_000_005L)
+                .build();
+
+        assertThat(codec.decode(codec.encode(message))).isEqualTo(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTripsNullFields(MessageCodec codec) {
+        Message message = new Message();
+
+        assertThat(codec.decode(codec.encode(message))).isEqualTo(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTripsNegativeTimestamps(MessageCodec codec) {
+        Message message = Message.builder()
+                .messageId("id")
+                .timestamp(-1L)
+                .intendedTimestamp(Long.MIN_VALUE)
+                .receivedAt(-1_700_000_000_000L)
+                .build();
+
+        assertThat(codec.decode(codec.encode(message))).isEqualTo(message);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void keepsNonUuidIdsVerbatim(MessageCodec codec) {
+        // The uppercase UUID would not survive the 16-byte binary form, so it must travel as a string
+        for (String id : List.of("order-42", "", "0190F3A2-7C4E-7D21-9A3B-5F2E8C1D4A6B")) {
+            Message message = Message.builder().messageId(id).content("x").timestamp(1L).build();
+
+            assertThat(codec.decode(codec.encode(message)).getMessageId()).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void protobufSkipsUnknownFields() {
+        ProtobufMessageCodec codec = new ProtobufMessageCodec();
+        Message message = Message.builder().messageId("id").content("content").timestamp(42L).build();
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        // Field 15 varint 150, field 16 length-delimited "abc", field 17 fixed32, field 18 fixed64
+        data.writeBytes(new byte[]{0x78, (byte) 0x96, 0x01});
+        data.writeBytes(new byte[]{(byte) 0x82, 0x01, 0x03, 'a', 'b', 'c'});
+        data.writeBytes(new byte[]{(byte) 0x8D, 0x01, 1, 2, 3, 4});
+        data.writeBytes(new byte[]{(byte) 0x91, 0x01, 1, 2, 3, 4, 5, 6, 7, 8});
+        data.writeBytes(codec.encode(message));
+
+        assertThat(codec.decode(data.toByteArray())).isEqualTo(message);
+    }
+}
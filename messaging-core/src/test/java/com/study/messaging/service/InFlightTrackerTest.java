@@ -0,0 +1,96 @@
+package com.study.messaging.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightTrackerTest {
+
+    // The smallest tracker has 16-slot segments that accept 12 entries each
+    private static final int SEGMENT_SLOTS = 16;
+    private static final int SEGMENT_MAX_SIZE = 12;
+
+    @Test
+    void tracksAndCompletesMessages() {
+        InFlightTracker tracker = new InFlightTracker(0);
+
+        assertThat(tracker.track(1, 1, 100)).isTrue();
+        assertThat(tracker.track(2, 2, 200)).isTrue();
+        assertThat(tracker.track(3, 3, 300)).isTrue();
+        assertThat(tracker.size()).isEqualTo(3);
+
+        assertThat(tracker.complete(2, 2)).isTrue();
+        assertThat(tracker.complete(2, 2)).isFalse();
+        assertThat(tracker.complete(4, 4)).isFalse();
+        assertThat(tracker.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsNewMessagesOnlyOnceTheSegmentIsFull() {
+        InFlightTracker tracker = new InFlightTracker(0);
+        List<Long> ids = idsInSegmentZero(SEGMENT_MAX_SIZE + 1, 0, SEGMENT_SLOTS - 1);
+
+        for (int i = 0; i < SEGMENT_MAX_SIZE; i++) {
+            assertThat(tracker.track(0, ids.get(i), 1)).isTrue();
+        }
+        assertThat(tracker.track(0, ids.get(SEGMENT_MAX_SIZE), 1)).isFalse();
+        // Re-tracking a known ID only refreshes its timestamp
+        assertThat(tracker.track(0, ids.get(0), 2)).isTrue();
+        assertThat(tracker.size()).isEqualTo(SEGMENT_MAX_SIZE);
+
+        assertThat(tracker.complete(0, ids.get(0))).isTrue();
+        assertThat(tracker.track(0, ids.get(SEGMENT_MAX_SIZE), 1)).isTrue();
+    }
+
+    @Test
+    void removalKeepsProbeChainsThatWrapAroundAFullSegment() {
+        InFlightTracker tracker = new InFlightTracker(0);
+        // Every ID hashes to one of the last two slots, so the chain runs off the end and wraps to slot 0
+        List<Long> ids = idsInSegmentZero(SEGMENT_MAX_SIZE, SEGMENT_SLOTS - 2, SEGMENT_SLOTS - 1);
+        for (long id : ids) {
+            assertThat(tracker.track(0, id, 1)).isTrue();
+        }
+
+        // Removing from the head of the chain shifts the wrapped entries back across the boundary
+        for (int removed = 0; removed < ids.size(); removed++) {
+            assertThat(tracker.complete(0, ids.get(removed))).isTrue();
+            assertThat(tracker.size()).isEqualTo(ids.size() - removed - 1);
+            for (int i = removed + 1; i < ids.size(); i++) {
+                // Re-tracking finds the existing entry instead of adding a duplicate
+                assertThat(tracker.track(0, ids.get(i), 1)).isTrue();
+                assertThat(tracker.size()).isEqualTo(ids.size() - removed - 1);
+            }
+        }
+    }
+
+    @Test
+    void expiryKeepsProbeChainsThatWrapAroundAFullSegment() {
+        InFlightTracker tracker = new InFlightTracker(0);
+        List<Long> ids = idsInSegmentZero(SEGMENT_MAX_SIZE, SEGMENT_SLOTS - 2, SEGMENT_SLOTS - 1);
+        for (int i = 0; i < ids.size(); i++) {
+            tracker.track(0, ids.get(i), i % 2 == 0 ? 10 : 20);
+        }
+
+        assertThat(tracker.expireOlderThan(15)).isEqualTo(SEGMENT_MAX_SIZE / 2);
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(tracker.complete(0, ids.get(i))).isEqualTo(i % 2 != 0);
+        }
+        assertThat(tracker.size()).isZero();
+    }
+
+    private static List<Long> idsInSegmentZero(int count, int minHomeSlot, int maxHomeSlot) {
+        List<Long> ids = new ArrayList<>();
+        for (long lsb = 1; ids.size() < count; lsb++) {
+            int hash = InFlightTracker.hash(0, lsb);
+            int home = hash & (SEGMENT_SLOTS - 1);
+            if (hash >>> 28 == 0 && home >= minHomeSlot && home <= maxHomeSlot) {
+                ids.add(lsb);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.messaging.service;
+
+import com.study.messaging.model.Message;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceivedMessageStoreTest {
+
+    @Test
+    void sinceCursorReturnsOnlyNewerMessages() {
+        ReceivedMessageStore store = storeWith(5, 8);
+
+        ReceivedMessageStore.Page first = store.read(10, -1);
+        assertThat(contents(first)).containsExactly("m7", "m6", "m5", "m4", "m3");
+        assertThat(first.cursor()).isEqualTo(7);
+        assertThat(first.hasMore()).isFalse();
+
+        store.add(message(8));
+        store.add(message(9));
+        ReceivedMessageStore.Page next = store.read(10, first.cursor());
+        assertThat(contents(next)).containsExactly("m9", "m8");
+        assertThat(next.cursor()).isEqualTo(9);
+
+        ReceivedMessageStore.Page idle = store.read(10, next.cursor());
+        assertThat(idle.messages()).isEmpty();
+        assertThat(idle.cursor()).isEqualTo(9);
+    }
+
+    @Test
+    void beforeCursorPagesBackwardsUntilOverwrittenEntries() {
+        ReceivedMessageStore store = storeWith(5, 8);
+
+        ReceivedMessageStore.Page first = store.read(2, -1);
+        assertThat(contents(first)).containsExactly("m7", "m6");
+        assertThat(first.before()).isEqualTo(6);
+        assertThat(first.hasMore()).isTrue();
+
+        ReceivedMessageStore.Page second = store.read(2, -1, first.before());
+        assertThat(contents(second)).containsExactly("m5", "m4");
+        assertThat(second.before()).isEqualTo(4);
+        assertThat(second.hasMore()).isTrue();
+
+        // m0-m2 were overwritten by the ring buffer, so paging ends at m3
+        ReceivedMessageStore.Page last = store.read(2, -1, second.before());
+        assertThat(contents(last)).containsExactly("m3");
+        assertThat(last.hasMore()).isFalse();
+    }
+
+    @Test
+    void cursorsCombineToReadABoundedRange() {
+        ReceivedMessageStore store = storeWith(10, 8);
+
+        ReceivedMessageStore.Page page = store.read(10, 2, 6);
+        assertThat(contents(page)).containsExactly("m5", "m4", "m3");
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    private static ReceivedMessageStore storeWith(int capacity, int count) {
+        ReceivedMessageStore store = new ReceivedMessageStore(capacity);
+        for (int i = 0; i < count; i++) {
+            store.add(message(i));
+        }
+        return store;
+    }
+
+    private static Message message(int index) {
+        return Message.builder().content("m" + index).build();
+    }
+
+    private static List<String> contents(ReceivedMessageStore.Page page) {
+        return page.messages().stream().map(Message::getContent).toList();
+    }
+}
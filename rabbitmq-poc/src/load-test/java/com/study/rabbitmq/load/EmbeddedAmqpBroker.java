@@ -0,0 +1,57 @@
+package com.study.rabbitmq.load;
+
+import org.apache.qpid.server.SystemLauncher;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+// In-process AMQP 0-9-1 broker (Qpid Broker-J) with in-memory storage, standing in for RabbitMQ
+final class EmbeddedAmqpBroker {
+
+    private final SystemLauncher launcher = new SystemLauncher();
+    private final int port;
+
+    private EmbeddedAmqpBroker(int port) {
+        this.port = port;
+    }
+
+    static EmbeddedAmqpBroker start(String username, String password) throws Exception {
+        EmbeddedAmqpBroker broker = new EmbeddedAmqpBroker(freePort());
+        Path workDir = Files.createTempDirectory("qpid-load-test");
+
+        Map<String, String> context = new HashMap<>();
+        context.put("qpid.amqp_port", String.valueOf(broker.port));
+        context.put("qpid.user.name", username);
+        context.put("qpid.user.password", password);
+        context.put("qpid.work_dir", workDir.toString());
+        context.put("qpid.home_dir", workDir.toString());
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("type", "Memory");
+        attributes.put("initialConfigurationLocation",
+                EmbeddedAmqpBroker.class.getClassLoader().getResource("qpid-config.json").toExternalForm());
+        attributes.put("startupLoggedToSystemOut", false);
+        attributes.put("context", context);
+
+        broker.launcher.startup(attributes);
+        return broker;
+    }
+
+    int port() {
+        return port;
+    }
+
+    void stop() {
+        launcher.shutdown();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.rabbitmq.load;
+
+import com.study.messaging.model.BulkMessageRequest;
+import com.study.messaging.model.BulkMessageResponse;
+import com.study.messaging.model.BulkSendMode;
+import com.study.messaging.model.LatencySummary;
+import com.study.messaging.model.MessageStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Drives send-bulk at fixed rates against an in-process AMQP broker and checks the HDR results against floors.
+// Tune with -Dload.messages, -Dload.rates, -Dload.min-rate-ratio and -Dload.max-p99-ms.
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "websocket.messages.policy=DROP",
+        "logging.level.com.study.rabbitmq=INFO"
+})
+class RabbitThroughputLoadTest {
+
+    private static final int MESSAGES = Integer.getInteger("load.messages", 20_000);
+    private static final double MIN_RATE_RATIO = Double.parseDouble(System.getProperty("load.min-rate-ratio", "0.8"));
+    private static final double MAX_P99_MS = Double.parseDouble(System.getProperty("load.max-p99-ms", "500"));
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(Long.getLong("load.drain-timeout-seconds", 60));
+
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "admin123";
+
+    private static EmbeddedAmqpBroker broker;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void brokerProperties(DynamicPropertyRegistry registry) throws Exception {
+        broker = EmbeddedAmqpBroker.start(USERNAME, PASSWORD);
+        registry.add("spring.rabbitmq.host", () -> "localhost");
+        registry.add("spring.rabbitmq.port", broker::port);
+        registry.add("spring.rabbitmq.username", () -> USERNAME);
+        registry.add("spring.rabbitmq.password", () -> PASSWORD);
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    static Stream<Integer> rates() {
+        return Arrays.stream(System.getProperty("load.rates", "1000,5000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf);
+    }
+
+    @BeforeEach
+    void resetStats() throws InterruptedException {
+        // Let stragglers from the previous rate arrive before zeroing the counters
+        Thread.sleep(500);
+        restTemplate.postForEntity("/api/messages/stats/reset", null, String.class);
+    }
+
+    @ParameterizedTest(name = "{0} msg/s")
+    @MethodSource("rates")
+    void sustainsFixedRate(int rate) throws InterruptedException {
+        BulkMessageRequest request = new BulkMessageRequest(MESSAGES, "load-test {index}");
+        request.setMode(BulkSendMode.PIPELINED);
+        request.setTargetRate(rate);
+
+        ResponseEntity<BulkMessageResponse> response =
+                restTemplate.postForEntity("/api/messages/send-bulk", request, BulkMessageResponse.class);
+        BulkMessageResponse result = response.getBody();
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(result).isNotNull();
+        assertThat(result.getSuccessCount()).isEqualTo(MESSAGES);
+
+        MessageStats stats = awaitReceived(MESSAGES);
+        LatencySummary latency = stats.getUncorrectedLatency();
+        log.info("RabbitMQ load @ {} msg/s: sent {} msg/s, received {}/{}, latency p50={}ms p99={}ms p99.9={}ms max={}ms, confirm p99={}ms",
+                rate, String.format("%.0f", result.getThroughput()), stats.getTotalReceived(), MESSAGES,
+                latency.getP50Ms(), latency.getP99Ms(), latency.getP999Ms(), latency.getMaxMs(),
+                result.getUncorrectedAckLatency().getP99Ms());
+
+        assertThat(stats.getTotalReceived()).isGreaterThanOrEqualTo(MESSAGES);
+        assertThat(result.getThroughput()).isGreaterThanOrEqualTo(rate * MIN_RATE_RATIO);
+        assertThat(latency.getP99Ms()).isLessThanOrEqualTo(MAX_P99_MS);
+    }
+
+    private MessageStats awaitReceived(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        MessageStats stats = restTemplate.getForObject("/api/messages/stats", MessageStats.class);
+        while (stats.getTotalReceived() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+            stats = restTemplate.getForObject("/api/messages/stats", MessageStats.class);
+        }
+        return stats;
+    }
+}
@@ -2,8 +2,10 @@ package com.study.rabbitmq;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.study.rabbitmq", "com.study.messaging"})
+@EnableScheduling
 public class RabbitMQApplication {
 
     public static void main(String[] args) {
@@ -1,14 +1,23 @@
 package com.study.rabbitmq.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.messaging.serialization.MessageSerialization;
+import com.study.rabbitmq.model.ConsumerSettings;
+import com.study.rabbitmq.model.RoutingTopology;
+import com.study.rabbitmq.model.TopologySettings;
+import com.study.rabbitmq.serialization.CodecMessageConverter;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class RabbitMQConfig {
@@ -18,6 +27,8 @@ public class RabbitMQConfig {
     public static final String ROUTING_KEY = "messaging.study.key";
     public static final String TOPIC_EXCHANGE_NAME = "messaging.study.topic.exchange";
     public static final String FANOUT_EXCHANGE_NAME = "messaging.study.fanout.exchange";
+    public static final String SHARDED_EXCHANGE_NAME = "messaging.study.sharded.exchange";
+    public static final String TOPIC_ALL_QUEUE_NAME = "messaging.study.topic.queue.all";
 
     @Bean
     public DirectExchange directExchange() {
@@ -48,25 +59,158 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public TopologySettings topologySettings(
+            @Value("${rabbitmq.topology.default:DIRECT}") RoutingTopology defaultTopology,
+            @Value("${rabbitmq.topology.topic-queues:3}") int topicQueues,
+            @Value("${rabbitmq.topology.fanout-queues:3}") int fanoutQueues,
+            @Value("${rabbitmq.topology.shards:4}") int shards) {
+        return TopologySettings.builder()
+                .defaultTopology(defaultTopology)
+                .topicQueues(Math.max(1, topicQueues))
+                .fanoutQueues(Math.max(1, fanoutQueues))
+                .shards(Math.max(1, shards))
+                .build();
+    }
+
+    @Bean
+    public DirectExchange shardedExchange() {
+        return new DirectExchange(SHARDED_EXCHANGE_NAME, true, false);
+    }
+
+    // Topic queue i takes "study.i.*"; the extra "all" queue takes "study.#", so every topic publish lands twice
+    @Bean
+    public Declarables topologyDeclarables(TopologySettings settings, TopicExchange topicExchange,
+                                           FanoutExchange fanoutExchange, DirectExchange shardedExchange) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int i = 0; i < settings.getTopicQueues(); i++) {
+            Queue queue = QueueBuilder.durable(topicQueueName(i)).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(topicExchange).with("study." + i + ".*"));
+        }
+        Queue topicAll = QueueBuilder.durable(TOPIC_ALL_QUEUE_NAME).build();
+        declarables.add(topicAll);
+        declarables.add(BindingBuilder.bind(topicAll).to(topicExchange).with("study.#"));
+
+        for (int i = 0; i < settings.getFanoutQueues(); i++) {
+            Queue queue = QueueBuilder.durable(fanoutQueueName(i)).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(fanoutExchange));
+        }
+
+        for (int i = 0; i < settings.getShards(); i++) {
+            Queue queue = QueueBuilder.durable(shardQueueName(i)).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(shardedExchange).with(shardRoutingKey(i)));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public String[] topologyQueueNames(TopologySettings settings) {
+        List<String> names = new ArrayList<>();
+        names.add(QUEUE_NAME);
+        for (int i = 0; i < settings.getTopicQueues(); i++) {
+            names.add(topicQueueName(i));
+        }
+        names.add(TOPIC_ALL_QUEUE_NAME);
+        for (int i = 0; i < settings.getFanoutQueues(); i++) {
+            names.add(fanoutQueueName(i));
+        }
+        for (int i = 0; i < settings.getShards(); i++) {
+            names.add(shardQueueName(i));
+        }
+        return names.toArray(String[]::new);
+    }
+
+    public static String topicQueueName(int index) {
+        return "messaging.study.topic.queue." + index;
+    }
+
+    public static String fanoutQueueName(int index) {
+        return "messaging.study.fanout.queue." + index;
+    }
+
+    public static String shardQueueName(int index) {
+        return "messaging.study.shard.queue." + index;
+    }
+
+    public static String shardRoutingKey(int index) {
+        return "shard." + index;
+    }
+
+    @Bean
+    public MessageConverter messageConverter(MessageSerialization serialization) {
+        return new CodecMessageConverter(serialization);
     }
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 
+    @Bean
+    public ConsumerSettings consumerSettings(
+            @Value("${rabbitmq.consumer.concurrent-consumers:1}") int concurrentConsumers,
+            @Value("${rabbitmq.consumer.max-concurrent-consumers:1}") int maxConcurrentConsumers,
+            @Value("${rabbitmq.consumer.prefetch:10}") int prefetch,
+            @Value("${rabbitmq.consumer.batch-listener:false}") boolean batchListener,
+            @Value("${rabbitmq.consumer.batch-size:100}") int batchSize,
+            @Value("${rabbitmq.consumer.virtual-threads:false}") boolean virtualThreads) {
+        return ConsumerSettings.builder()
+                .concurrentConsumers(concurrentConsumers)
+                .maxConcurrentConsumers(Math.max(concurrentConsumers, maxConcurrentConsumers))
+                .prefetch(prefetch)
+                .batchListener(batchListener)
+                .batchSize(batchSize)
+                .virtualThreads(virtualThreads)
+                .build();
+    }
+
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            MessageConverter messageConverter) {
+            MessageConverter messageConverter,
+            ConsumerSettings consumerSettings) {
+        return listenerContainerFactory(connectionFactory, messageConverter, consumerSettings);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            ConsumerSettings consumerSettings) {
+        SimpleRabbitListenerContainerFactory factory =
+                listenerContainerFactory(connectionFactory, messageConverter, consumerSettings);
+        // The container acks each consumer batch with a single multiple=true basicAck
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(consumerSettings.getBatchSize());
+        return factory;
+    }
+
+    public static SimpleAsyncTaskExecutor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("rabbit-listener-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private SimpleRabbitListenerContainerFactory listenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            ConsumerSettings consumerSettings) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter);
-        factory.setPrefetchCount(10);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setPrefetchCount(consumerSettings.getPrefetch());
+        factory.setConcurrentConsumers(consumerSettings.getConcurrentConsumers());
+        factory.setMaxConcurrentConsumers(consumerSettings.getMaxConcurrentConsumers());
+        if (consumerSettings.isVirtualThreads()) {
+            factory.setTaskExecutor(virtualThreadExecutor());
+        }
         return factory;
     }
 }
@@ -1,13 +1,18 @@
 package com.study.rabbitmq.controller;
 
 import com.study.rabbitmq.config.RabbitMQConfig;
+import com.study.rabbitmq.model.ConsumerSettings;
+import com.study.rabbitmq.service.ConsumerTuningService;
+import com.study.rabbitmq.service.ProducerTuningService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Exchange;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -15,6 +20,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ConfigController {
 
+    private final ProducerTuningService producerTuningService;
+    private final ConsumerTuningService consumerTuningService;
+    // Every declared exchange bean, so new topologies show up without touching this list
+    private final List<Exchange> exchanges;
+
     @Value("${spring.rabbitmq.host:localhost}")
     private String host;
 
@@ -27,23 +37,36 @@ public class ConfigController {
         config.put("host", host);
         config.put("port", port);
         config.put("queues", Arrays.asList(RabbitMQConfig.QUEUE_NAME));
-        config.put("exchanges", Arrays.asList(
-                RabbitMQConfig.EXCHANGE_NAME,
-                RabbitMQConfig.TOPIC_EXCHANGE_NAME,
-                RabbitMQConfig.FANOUT_EXCHANGE_NAME
-        ));
+        config.put("exchanges", exchanges.stream()
+                .map(Exchange::getName)
+                .sorted()
+                .toList());
         config.put("exchangeType", "direct");
         config.put("routingKey", RabbitMQConfig.ROUTING_KEY);
+        config.put("producer", producerTuningService.getSettings());
+        config.put("consumer", consumerTuningService.getSettings());
 
         return ResponseEntity.ok(config);
     }
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> updateConfig(@RequestBody Map<String, Object> config) {
-        return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "Configuration update not implemented in POC",
-                "receivedConfig", config
-        ));
+        try {
+            // Reject the whole request before anything is reconfigured
+            producerTuningService.validate(config);
+            consumerTuningService.validate(config);
+            Map<String, Object> producer = producerTuningService.update(config);
+            ConsumerSettings consumer = consumerTuningService.update(config);
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "producer", producer,
+                    "consumer", consumer
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "error",
+                    "message", e.getMessage()
+            ));
+        }
     }
 }
@@ -0,0 +1,24 @@
+package com.study.rabbitmq.controller;
+
+import com.study.rabbitmq.service.TopologyRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/messages")
+@RequiredArgsConstructor
+public class TopologyController {
+
+    private final TopologyRouter topologyRouter;
+
+    @GetMapping("/topology")
+    public ResponseEntity<List<Map<String, Object>>> getTopology() {
+        return ResponseEntity.ok(topologyRouter.describe());
+    }
+}
@@ -1,18 +0,0 @@
-package com.study.rabbitmq.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class BulkMessageResponse {
-    private int totalSent;
-    private int successCount;
-    private int failCount;
-    private long durationMs;
-    private double throughput;
-}
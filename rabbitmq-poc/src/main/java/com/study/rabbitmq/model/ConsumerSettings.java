@@ -0,0 +1,19 @@
+package com.study.rabbitmq.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumerSettings {
+    private int concurrentConsumers;
+    private int maxConcurrentConsumers;
+    private int prefetch;
+    private boolean batchListener;
+    private int batchSize;
+    private boolean virtualThreads;
+}
@@ -1,6 +0,0 @@
-package com.study.rabbitmq.model;
-
-public enum MessageFormat {
-    JSON,
-    TEXT
-}
@@ -9,10 +9,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class MessageStats {
-    private long totalSent;
-    private long totalReceived;
+public class QueueStats {
+    private String queue;
+    private long receivedCount;
     private double averageLatencyMs;
-    private double throughput;
-    private long lastMessageTimestamp;
+    private double maxLatencyMs;
 }
@@ -0,0 +1,15 @@
+package com.study.rabbitmq.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// RabbitMQ-specific fields of a bulk request, read from BulkMessageRequest options
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RabbitBulkOptions {
+    private RoutingTopology topology;
+}
@@ -0,0 +1,8 @@
+package com.study.rabbitmq.model;
+
+public enum RoutingTopology {
+    DIRECT,
+    TOPIC,
+    FANOUT,
+    SHARDED
+}
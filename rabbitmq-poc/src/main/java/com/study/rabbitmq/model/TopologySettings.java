@@ -9,8 +9,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class MessageSendResponse {
-    private String messageId;
-    private long timestamp;
-    private boolean success;
+public class TopologySettings {
+    private RoutingTopology defaultTopology;
+    private int topicQueues;
+    private int fanoutQueues;
+    private int shards;
 }
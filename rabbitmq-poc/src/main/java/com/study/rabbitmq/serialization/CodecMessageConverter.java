@@ -0,0 +1,34 @@
+package com.study.rabbitmq.serialization;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.serialization.MessageSerialization;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+@RequiredArgsConstructor
+public class CodecMessageConverter implements MessageConverter {
+
+    private final MessageSerialization serialization;
+
+    @Override
+    public org.springframework.amqp.core.Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!(object instanceof Message message)) {
+            throw new MessageConversionException("Cannot convert " + object.getClass().getName() + ", expected Message");
+        }
+        byte[] body = serialization.encode(message);
+        messageProperties.setContentType(serialization.getCodec().contentType());
+        messageProperties.setContentLength(body.length);
+        return new org.springframework.amqp.core.Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(org.springframework.amqp.core.Message message) {
+        try {
+            return serialization.decode(message.getBody(), message.getMessageProperties().getContentType());
+        } catch (RuntimeException e) {
+            throw new MessageConversionException("Failed to decode message", e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.study.rabbitmq.service;
+
+import com.study.messaging.service.TuningValues;
+import com.study.rabbitmq.config.RabbitMQConfig;
+import com.study.rabbitmq.model.ConsumerSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsumerTuningService {
+
+    public static final String RECORD_LISTENER_ID = "recordListener";
+    public static final String BATCH_LISTENER_ID = "batchListener";
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final ConsumerSettings consumerSettings;
+
+    public synchronized ConsumerSettings getSettings() {
+        return consumerSettings.toBuilder().build();
+    }
+
+    // Checks every consumer key without applying anything, so callers can validate all services first
+    public synchronized void validate(Map<String, Object> changes) {
+        resolve(changes);
+    }
+
+    public synchronized ConsumerSettings update(Map<String, Object> changes) {
+        ConsumerSettings updated = resolve(changes);
+        if (!updated.equals(consumerSettings)) {
+            apply(updated);
+        }
+        return getSettings();
+    }
+
+    private ConsumerSettings resolve(Map<String, Object> changes) {
+        ConsumerSettings updated = consumerSettings.toBuilder().build();
+        changes.forEach((key, value) -> {
+            switch (key) {
+                case "concurrentConsumers" -> updated.setConcurrentConsumers(TuningValues.toInt(key, value));
+                case "maxConcurrentConsumers" -> updated.setMaxConcurrentConsumers(TuningValues.toInt(key, value));
+                case "prefetch" -> updated.setPrefetch(TuningValues.toInt(key, value));
+                case "batchListener" -> updated.setBatchListener(TuningValues.toBoolean(value));
+                case "batchSize" -> updated.setBatchSize(TuningValues.toInt(key, value));
+                case "virtualThreads" -> updated.setVirtualThreads(TuningValues.toBoolean(value));
+                default -> {
+                    // Not a consumer setting; other keys are handled elsewhere
+                }
+            }
+        });
+        if (updated.getConcurrentConsumers() < 1 || updated.getPrefetch() < 1 || updated.getBatchSize() < 1) {
+            throw new IllegalArgumentException("concurrentConsumers, prefetch and batchSize must be positive");
+        }
+        updated.setMaxConcurrentConsumers(Math.max(updated.getConcurrentConsumers(), updated.getMaxConcurrentConsumers()));
+        return updated;
+    }
+
+    private void apply(ConsumerSettings updated) {
+        log.info("Applying consumer settings: {}", updated);
+        boolean restartNeeded = updated.getPrefetch() != consumerSettings.getPrefetch()
+                || updated.getBatchSize() != consumerSettings.getBatchSize()
+                || updated.isVirtualThreads() != consumerSettings.isVirtualThreads();
+
+        applyTo(RECORD_LISTENER_ID, updated, !updated.isBatchListener(), restartNeeded);
+        applyTo(BATCH_LISTENER_ID, updated, updated.isBatchListener(), restartNeeded);
+
+        consumerSettings.setConcurrentConsumers(updated.getConcurrentConsumers());
+        consumerSettings.setMaxConcurrentConsumers(updated.getMaxConcurrentConsumers());
+        consumerSettings.setPrefetch(updated.getPrefetch());
+        consumerSettings.setBatchListener(updated.isBatchListener());
+        consumerSettings.setBatchSize(updated.getBatchSize());
+        consumerSettings.setVirtualThreads(updated.isVirtualThreads());
+    }
+
+    private void applyTo(String listenerId, ConsumerSettings settings, boolean active, boolean restartNeeded) {
+        MessageListenerContainer listenerContainer = listenerRegistry.getListenerContainer(listenerId);
+        if (!(listenerContainer instanceof SimpleMessageListenerContainer container)) {
+            return;
+        }
+
+        boolean wasRunning = container.isRunning();
+        if (wasRunning && (restartNeeded || !active)) {
+            container.stop();
+        }
+
+        boolean applied = false;
+        try {
+            // The container rejects a concurrent count above its ceiling and a ceiling below its concurrent count,
+            // so raise the ceiling first when growing and lower the concurrent count first when shrinking
+            if (settings.getConcurrentConsumers() > consumerSettings.getMaxConcurrentConsumers()) {
+                container.setMaxConcurrentConsumers(settings.getMaxConcurrentConsumers());
+                container.setConcurrentConsumers(settings.getConcurrentConsumers());
+            } else {
+                container.setConcurrentConsumers(settings.getConcurrentConsumers());
+                container.setMaxConcurrentConsumers(settings.getMaxConcurrentConsumers());
+            }
+            container.setPrefetchCount(settings.getPrefetch());
+            if (BATCH_LISTENER_ID.equals(listenerId)) {
+                container.setBatchSize(settings.getBatchSize());
+            }
+            applied = true;
+        } finally {
+            // A rejected setting must not leave a listener that was consuming stopped
+            if (!container.isRunning()) {
+                container.setTaskExecutor(settings.isVirtualThreads()
+                        ? RabbitMQConfig.virtualThreadExecutor()
+                        : new SimpleAsyncTaskExecutor(listenerId + "-"));
+                if (active || (wasRunning && !applied)) {
+                    container.start();
+                }
+            }
+        }
+    }
+}
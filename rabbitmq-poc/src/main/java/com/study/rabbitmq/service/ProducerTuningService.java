@@ -0,0 +1,102 @@
+package com.study.rabbitmq.service;
+
+import com.study.messaging.service.TuningValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProducerTuningService {
+
+    private final ConnectionFactory connectionFactory;
+    private volatile MessageDeliveryMode deliveryMode = MessageDeliveryMode.PERSISTENT;
+    // Shared by every publish so the delivery mode can change without touching the template
+    private final MessagePostProcessor deliveryModeProcessor = message -> {
+        message.getMessageProperties().setDeliveryMode(deliveryMode);
+        return message;
+    };
+
+    public MessagePostProcessor getDeliveryModeProcessor() {
+        return deliveryModeProcessor;
+    }
+
+    public synchronized Map<String, Object> getSettings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("publisherConfirms", connectionFactory.isPublisherConfirms());
+        settings.put("publisherReturns", connectionFactory.isPublisherReturns());
+        settings.put("persistent", deliveryMode == MessageDeliveryMode.PERSISTENT);
+        if (connectionFactory instanceof CachingConnectionFactory cachingConnectionFactory) {
+            settings.put("channelCacheSize", cachingConnectionFactory.getChannelCacheSize());
+        }
+        return settings;
+    }
+
+    // Checks every producer key without applying anything, so callers can validate all services first
+    public synchronized void validate(Map<String, Object> changes) {
+        parse(changes);
+    }
+
+    public synchronized Map<String, Object> update(Map<String, Object> changes) {
+        ProducerChanges parsed = parse(changes);
+        if (parsed.persistent() != null) {
+            // Applies to the next publish; no connection reset needed
+            deliveryMode = parsed.persistent() ? MessageDeliveryMode.PERSISTENT : MessageDeliveryMode.NON_PERSISTENT;
+        }
+        Boolean publisherConfirms = parsed.publisherConfirms();
+        Integer channelCacheSize = parsed.channelCacheSize();
+        if (publisherConfirms == null && channelCacheSize == null) {
+            return getSettings();
+        }
+        CachingConnectionFactory cachingConnectionFactory = (CachingConnectionFactory) connectionFactory;
+
+        log.info("Applying producer settings: publisherConfirms={}, channelCacheSize={}",
+                publisherConfirms, channelCacheSize);
+        if (publisherConfirms != null) {
+            cachingConnectionFactory.setPublisherConfirmType(publisherConfirms
+                    ? CachingConnectionFactory.ConfirmType.CORRELATED
+                    : CachingConnectionFactory.ConfirmType.NONE);
+        }
+        if (channelCacheSize != null) {
+            cachingConnectionFactory.setChannelCacheSize(channelCacheSize);
+        }
+        // Cached channels keep their confirm mode; drop them so new ones pick up the change
+        cachingConnectionFactory.resetConnection();
+        return getSettings();
+    }
+
+    private ProducerChanges parse(Map<String, Object> changes) {
+        Boolean publisherConfirms = null;
+        Integer channelCacheSize = null;
+        Boolean persistent = null;
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            switch (change.getKey()) {
+                case "publisherConfirms" -> publisherConfirms = TuningValues.toBoolean(change.getValue());
+                case "channelCacheSize" -> channelCacheSize = TuningValues.toInt(change.getKey(), change.getValue());
+                case "persistent" -> persistent = TuningValues.toBoolean(change.getValue());
+                default -> {
+                    // Not a producer setting; other keys are handled elsewhere
+                }
+            }
+        }
+        if (channelCacheSize != null && channelCacheSize < 1) {
+            throw new IllegalArgumentException("channelCacheSize must be positive");
+        }
+        if ((publisherConfirms != null || channelCacheSize != null)
+                && !(connectionFactory instanceof CachingConnectionFactory)) {
+            throw new IllegalArgumentException("Producer settings require a CachingConnectionFactory");
+        }
+        return new ProducerChanges(publisherConfirms, channelCacheSize, persistent);
+    }
+
+    private record ProducerChanges(Boolean publisherConfirms, Integer channelCacheSize, Boolean persistent) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.rabbitmq.service;
+
+import com.study.messaging.transport.TransportMetrics;
+import com.study.rabbitmq.model.QueueStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+@Component
+public class QueueTracker implements TransportMetrics {
+
+    private final Map<String, Counters> queues = new ConcurrentHashMap<>();
+
+    public void record(String queue, long latencyMs) {
+        Counters counters = queues.computeIfAbsent(queue != null ? queue : "unknown", name -> new Counters());
+        counters.received.incrementAndGet();
+        if (latencyMs >= 0) {
+            counters.latencyCount.incrementAndGet();
+            counters.latencySumMs.addAndGet(latencyMs);
+            counters.maxLatencyMs.accumulate(latencyMs);
+        }
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        return Map.of("queues", queues());
+    }
+
+    public List<QueueStats> queues() {
+        return queues.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(QueueStats::getQueue))
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        queues.clear();
+    }
+
+    private static QueueStats toStats(String queue, Counters counters) {
+        long latencyCount = counters.latencyCount.get();
+        return QueueStats.builder()
+                .queue(queue)
+                .receivedCount(counters.received.get())
+                .averageLatencyMs(latencyCount > 0 ? (double) counters.latencySumMs.get() / latencyCount : 0.0)
+                .maxLatencyMs(counters.maxLatencyMs.get())
+                .build();
+    }
+
+    private static class Counters {
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong latencyCount = new AtomicLong();
+        private final AtomicLong latencySumMs = new AtomicLong();
+        private final LongAccumulator maxLatencyMs = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.study.rabbitmq.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.service.MessageConsumerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RabbitMessageListener {
+
+    private final MessageConsumerService consumerService;
+    private final QueueTracker queueTracker;
+    private final TopologyRouter topologyRouter;
+
+    @RabbitListener(id = ConsumerTuningService.RECORD_LISTENER_ID, queues = "#{@topologyQueueNames}",
+            autoStartup = "#{!${rabbitmq.consumer.batch-listener:false}}")
+    public void consumeMessage(@Payload Message message, @Header(AmqpHeaders.CONSUMER_QUEUE) String queue) {
+        if (topologyRouter.isCopyQueue(queue)) {
+            message.setReceivedAt(Instant.now().toEpochMilli());
+        } else {
+            consumerService.consume(message);
+        }
+        queueTracker.record(queue, latencyMs(message));
+    }
+
+    @RabbitListener(id = ConsumerTuningService.BATCH_LISTENER_ID, queues = "#{@topologyQueueNames}",
+            containerFactory = "batchRabbitListenerContainerFactory",
+            autoStartup = "${rabbitmq.consumer.batch-listener:false}")
+    public void consumeBatch(List<org.springframework.messaging.Message<Message>> deliveries) {
+        List<Message> messages = new ArrayList<>(deliveries.size());
+        long receivedAt = Instant.now().toEpochMilli();
+        for (org.springframework.messaging.Message<Message> delivery : deliveries) {
+            if (topologyRouter.isCopyQueue(delivery.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE, String.class))) {
+                delivery.getPayload().setReceivedAt(receivedAt);
+            } else {
+                messages.add(delivery.getPayload());
+            }
+        }
+        if (!messages.isEmpty()) {
+            consumerService.consumeBatch(messages);
+        }
+        // Counted per delivery, so fan-out topologies show one entry per bound queue
+        for (org.springframework.messaging.Message<Message> delivery : deliveries) {
+            queueTracker.record(delivery.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE, String.class),
+                    latencyMs(delivery.getPayload()));
+        }
+    }
+
+    // The consumer service stamps receivedAt on primary deliveries, so this runs after it
+    private static long latencyMs(Message message) {
+        return message.getTimestamp() > 0 && message.getReceivedAt() != null
+                ? Math.max(0, message.getReceivedAt() - message.getTimestamp())
+                : -1;
+    }
+}
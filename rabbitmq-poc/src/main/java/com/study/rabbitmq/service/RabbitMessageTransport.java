@@ -0,0 +1,275 @@
+package com.study.rabbitmq.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.messaging.model.*;
+import com.study.messaging.service.AckLatencies;
+import com.study.messaging.service.BulkMessageSource;
+import com.study.messaging.service.BulkProgress;
+import com.study.messaging.service.BulkSendEngine;
+import com.study.messaging.service.MessageIds;
+import com.study.messaging.service.MetricsService;
+import com.study.messaging.service.TokenBucketRateLimiter;
+import com.study.messaging.transport.MessageTransport;
+import com.study.rabbitmq.model.RabbitBulkOptions;
+import com.study.rabbitmq.model.RoutingTopology;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RabbitMessageTransport implements MessageTransport {
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MetricsService metricsService;
+    private final BulkSendEngine bulkSendEngine;
+    private final TopologyRouter topologyRouter;
+    private final ProducerTuningService producerTuningService;
+    private final ConsumerTuningService consumerTuningService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "rabbitmq";
+    }
+
+    @Override
+    public MessageSendResponse send(Message message) {
+        return send(message, topologyRouter.resolve(null));
+    }
+
+    private MessageSendResponse send(Message message, RoutingTopology topology) {
+        if (!trySend(message, topology)) {
+            return MessageSendResponse.builder()
+                    .success(false)
+                    .build();
+        }
+
+        log.debug("Message sent successfully: {}", message.getMessageId());
+
+        return MessageSendResponse.builder()
+                .messageId(message.getMessageId())
+                .timestamp(message.getTimestamp())
+                .success(true)
+                .build();
+    }
+
+    // The bulk loops only need the outcome, not a response object per message
+    private boolean trySend(Message message, RoutingTopology topology) {
+        try {
+            publish(message, topology, false);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to send message: {}", message.getContent(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public Map<String, Object> applyScenario(BenchmarkScenario scenario) {
+        // Queues are declared durable either way; durability here is the per-message delivery mode
+        Map<String, Object> consumerChanges = Map.of(
+                "concurrentConsumers", scenario.getConsumers(),
+                "maxConcurrentConsumers", scenario.getConsumers());
+        consumerTuningService.validate(consumerChanges);
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("producer", producerTuningService.update(Map.of("persistent", scenario.isDurable())));
+        settings.put("consumer", consumerTuningService.update(consumerChanges));
+        return settings;
+    }
+
+    @Override
+    public BulkMessageResponse sendBulk(BulkMessageRequest request, BulkProgress progress) {
+        RabbitBulkOptions options = objectMapper.convertValue(request.getOptions(), RabbitBulkOptions.class);
+        BulkSendMode mode = resolveMode(request);
+        boolean confirmed = mode != BulkSendMode.SEQUENTIAL && confirmsEnabled();
+        int maxInFlight = request.getMaxInFlight() > 0 ? request.getMaxInFlight() : DEFAULT_MAX_IN_FLIGHT;
+        RoutingTopology topology = topologyRouter.resolve(options.getTopology());
+        ConfirmTally confirms = new ConfirmTally();
+
+        log.info("Starting {} bulk send: {} messages, topology={}, producers={}, maxInFlight={}",
+                mode, request.getCount(), topology, request.getProducers(), maxInFlight);
+
+        // One window shared by every producer, so maxInFlight bounds the whole run
+        Semaphore outstandingConfirms = new Semaphore(maxInFlight);
+        // Payloads are generated here, before the clock starts
+        BulkMessageSource messages = BulkMessageSource.of(request);
+        long startTime = System.nanoTime();
+        List<ProducerResult> producerResults = bulkSendEngine.run(request, (fromIndex, toIndex, rateLimiter) ->
+                confirmed
+                        ? sendSliceConfirmed(messages, topology, fromIndex, toIndex, rateLimiter, outstandingConfirms,
+                                confirms, progress)
+                        : sendSlice(messages, topology, fromIndex, toIndex, rateLimiter, confirms.latencies,
+                                progress));
+        long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        BulkMessageResponse response = BulkSendEngine.summarize(request.getCount(), mode, request.getTargetRate(),
+                producerResults, durationMs, confirms.latencies).build();
+        response.setDetail("topology", topology);
+        response.setDetail("queues", topologyRouter.queues(topology));
+        response.setDetail("expectedDeliveries", response.getSuccessCount() * topologyRouter.fanOutFactor(topology));
+        response.setDetail("confirmedCount", confirms.confirmed.get());
+        response.setDetail("nackedCount", confirms.nacked.get());
+        response.setDetail("returnedCount", confirms.returned.get());
+
+        log.info("Bulk send completed: {} success, {} failed ({} nacked, {} returned), duration: {}ms, throughput: {} msg/s",
+                response.getSuccessCount(), response.getFailCount(), confirms.nacked.get(), confirms.returned.get(),
+                durationMs, String.format("%.2f", response.getThroughput()));
+
+        return response;
+    }
+
+    private BulkSendMode resolveMode(BulkMessageRequest request) {
+        BulkSendMode mode = request.getMode() != null ? request.getMode() : BulkSendMode.SEQUENTIAL;
+        if (mode == BulkSendMode.PIPELINED && !confirmsEnabled()) {
+            // Without confirms there is nothing to pipeline against
+            log.warn("Publisher confirms are disabled, falling back to sequential bulk send");
+            return BulkSendMode.SEQUENTIAL;
+        }
+        if (mode == BulkSendMode.OPEN_LOOP && !confirmsEnabled()) {
+            // The timeline still holds, but only end-to-end latency can be measured
+            log.warn("Publisher confirms are disabled, open-loop bulk send will not report ack latency");
+        }
+        return mode;
+    }
+
+    private boolean confirmsEnabled() {
+        return rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+    }
+
+    private BulkSendEngine.SliceOutcome sendSlice(BulkMessageSource messages, RoutingTopology topology,
+                                                  int fromIndex, int toIndex, TokenBucketRateLimiter rateLimiter,
+                                                  AckLatencies ackLatencies, BulkProgress progress) {
+        int successCount = 0;
+        int failCount = 0;
+        Message message = messages.newMessage();
+
+        for (int i = fromIndex; i < toIndex && !Thread.currentThread().isInterrupted(); i++) {
+            long intendedAt = System.nanoTime();
+            if (rateLimiter != null) {
+                try {
+                    intendedAt = rateLimiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            messages.fill(message, i).setIntendedTimestamp(BulkSendEngine.epochMillisAt(intendedAt));
+            ackLatencies.recordSend(intendedAt, System.nanoTime());
+            if (trySend(message, topology)) {
+                successCount++;
+                progress.recordSuccess();
+            } else {
+                failCount++;
+                progress.recordFailure();
+            }
+        }
+
+        return new BulkSendEngine.SliceOutcome(successCount, failCount);
+    }
+
+    private BulkSendEngine.SliceOutcome sendSliceConfirmed(BulkMessageSource messages, RoutingTopology topology,
+                                                           int fromIndex, int toIndex,
+                                                           TokenBucketRateLimiter rateLimiter,
+                                                           Semaphore outstandingConfirms,
+                                                           ConfirmTally confirms, BulkProgress progress) {
+        // Released once per settled confirm of this slice, so the slice can wait for its own confirms only
+        Semaphore settled = new Semaphore(0);
+        int awaiting = 0;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        Message message = messages.newMessage();
+
+        try {
+            for (int i = fromIndex; i < toIndex; i++) {
+                // In open-loop mode the timeline keeps moving while this producer waits for confirm room
+                long intendedAt = rateLimiter != null ? rateLimiter.acquire() : System.nanoTime();
+                outstandingConfirms.acquire();
+                messages.fill(message, i).setIntendedTimestamp(BulkSendEngine.epochMillisAt(intendedAt));
+                long sentAt = System.nanoTime();
+                confirms.latencies.recordSend(intendedAt, sentAt);
+                try {
+                    CorrelationData correlationData = publish(message, topology, true);
+                    // The message is refilled on the next iteration; callbacks only see its ID
+                    String messageId = correlationData.getId();
+                    correlationData.getFuture().whenComplete((confirm, ex) -> {
+                        confirms.latencies.recordAck(intendedAt, sentAt, System.nanoTime());
+                        if (ex != null || !confirm.isAck()) {
+                            log.warn("Message nacked by broker: {}", messageId);
+                            confirms.nacked.incrementAndGet();
+                            failCount.incrementAndGet();
+                            progress.recordFailure();
+                        } else if (correlationData.getReturned() != null) {
+                            log.warn("Message returned as unroutable: {}", messageId);
+                            confirms.returned.incrementAndGet();
+                            failCount.incrementAndGet();
+                            progress.recordFailure();
+                        } else {
+                            confirms.confirmed.incrementAndGet();
+                            successCount.incrementAndGet();
+                            progress.recordSuccess();
+                        }
+                        outstandingConfirms.release();
+                        settled.release();
+                    });
+                    awaiting++;
+                } catch (Exception e) {
+                    log.error("Failed to send message: {}", message.getContent(), e);
+                    failCount.incrementAndGet();
+                    progress.recordFailure();
+                    outstandingConfirms.release();
+                }
+            }
+            // Wait for every outstanding confirm of this slice before reporting
+            settled.acquire(awaiting);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return new BulkSendEngine.SliceOutcome(successCount.get(), failCount.get());
+    }
+
+    // Returns the correlation to await the publisher confirm on, or null when not correlated
+    private CorrelationData publish(Message message, RoutingTopology topology, boolean correlated) {
+        UUID id = MessageIds.next();
+        String messageId = id.toString();
+        message.setMessageId(messageId);
+        message.setTimestamp(System.currentTimeMillis());
+        // Reusing the message ID spares CorrelationData generating a random UUID of its own
+        CorrelationData correlationData = correlated ? new CorrelationData(messageId) : null;
+
+        TopologyRouter.Route route = topologyRouter.route(topology, message);
+
+        rabbitTemplate.convertAndSend(
+                route.exchange(),
+                route.routingKey(),
+                message,
+                producerTuningService.getDeliveryModeProcessor(),
+                correlationData
+        );
+
+        metricsService.recordMessageSent(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+                message.getTimestamp());
+        return correlationData;
+    }
+
+    private static class ConfirmTally {
+        private final AtomicInteger confirmed = new AtomicInteger();
+        private final AtomicInteger nacked = new AtomicInteger();
+        private final AtomicInteger returned = new AtomicInteger();
+        private final AckLatencies latencies = new AckLatencies();
+    }
+}
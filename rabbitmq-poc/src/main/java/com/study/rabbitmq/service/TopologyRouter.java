@@ -0,0 +1,130 @@
+package com.study.rabbitmq.service;
+
+import com.study.messaging.model.Message;
+import com.study.messaging.model.MessageFormat;
+import com.study.rabbitmq.config.RabbitMQConfig;
+import com.study.rabbitmq.model.RoutingTopology;
+import com.study.rabbitmq.model.TopologySettings;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class TopologyRouter {
+
+    private final TopologySettings settings;
+    private final AmqpAdmin amqpAdmin;
+    private final Set<String> copyQueues;
+
+    public TopologyRouter(TopologySettings settings, AmqpAdmin amqpAdmin) {
+        this.settings = settings;
+        this.amqpAdmin = amqpAdmin;
+        // Every topic publish also reaches the catch-all queue, and every fanout publish reaches queue 0
+        Set<String> copies = new HashSet<>();
+        for (int i = 0; i < settings.getTopicQueues(); i++) {
+            copies.add(RabbitMQConfig.topicQueueName(i));
+        }
+        for (int i = 1; i < settings.getFanoutQueues(); i++) {
+            copies.add(RabbitMQConfig.fanoutQueueName(i));
+        }
+        this.copyQueues = Set.copyOf(copies);
+    }
+
+    public RoutingTopology resolve(RoutingTopology requested) {
+        return requested != null ? requested : settings.getDefaultTopology();
+    }
+
+    // Routing is derived from the message ID, so it must be assigned before this is called
+    public Route route(RoutingTopology topology, Message message) {
+        return switch (topology) {
+            case DIRECT -> new Route(RabbitMQConfig.EXCHANGE_NAME,
+                    message.getDestination() != null ? message.getDestination() : RabbitMQConfig.ROUTING_KEY);
+            case TOPIC -> new Route(RabbitMQConfig.TOPIC_EXCHANGE_NAME,
+                    "study." + bucket(message, settings.getTopicQueues()) + "." + formatSegment(message.getFormat()));
+            case FANOUT -> new Route(RabbitMQConfig.FANOUT_EXCHANGE_NAME, "");
+            case SHARDED -> new Route(RabbitMQConfig.SHARDED_EXCHANGE_NAME,
+                    RabbitMQConfig.shardRoutingKey(bucket(message, settings.getShards())));
+        };
+    }
+
+    // Queues that only ever receive an extra copy of a publish another queue also gets;
+    // deliveries from them count per queue but not towards end-to-end metrics
+    public boolean isCopyQueue(String queue) {
+        return queue != null && copyQueues.contains(queue);
+    }
+
+    // How many queues a single publish reaches
+    public int fanOutFactor(RoutingTopology topology) {
+        return switch (topology) {
+            case DIRECT, SHARDED -> 1;
+            case TOPIC -> 2;
+            case FANOUT -> settings.getFanoutQueues();
+        };
+    }
+
+    public List<String> queues(RoutingTopology topology) {
+        List<String> queues = new ArrayList<>();
+        switch (topology) {
+            case DIRECT -> queues.add(RabbitMQConfig.QUEUE_NAME);
+            case TOPIC -> {
+                for (int i = 0; i < settings.getTopicQueues(); i++) {
+                    queues.add(RabbitMQConfig.topicQueueName(i));
+                }
+                queues.add(RabbitMQConfig.TOPIC_ALL_QUEUE_NAME);
+            }
+            case FANOUT -> {
+                for (int i = 0; i < settings.getFanoutQueues(); i++) {
+                    queues.add(RabbitMQConfig.fanoutQueueName(i));
+                }
+            }
+            case SHARDED -> {
+                for (int i = 0; i < settings.getShards(); i++) {
+                    queues.add(RabbitMQConfig.shardQueueName(i));
+                }
+            }
+        }
+        return queues;
+    }
+
+    // Queue depth and consumer count come from a passive declare per queue
+    public List<Map<String, Object>> describe() {
+        List<Map<String, Object>> topologies = new ArrayList<>();
+        for (RoutingTopology topology : RoutingTopology.values()) {
+            List<Map<String, Object>> queues = new ArrayList<>();
+            for (String queue : queues(topology)) {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                Map<String, Object> queueInfo = new LinkedHashMap<>();
+                queueInfo.put("queue", queue);
+                queueInfo.put("declared", info != null);
+                queueInfo.put("messageCount", info != null ? info.getMessageCount() : 0);
+                queueInfo.put("consumerCount", info != null ? info.getConsumerCount() : 0);
+                queues.add(queueInfo);
+            }
+            Map<String, Object> description = new LinkedHashMap<>();
+            description.put("topology", topology);
+            description.put("default", topology == settings.getDefaultTopology());
+            description.put("fanOutFactor", fanOutFactor(topology));
+            description.put("queues", queues);
+            topologies.add(description);
+        }
+        return topologies;
+    }
+
+    private static int bucket(Message message, int buckets) {
+        return Math.floorMod(message.getMessageId().hashCode(), buckets);
+    }
+
+    private static String formatSegment(MessageFormat format) {
+        return format != null ? format.name().toLowerCase() : "text";
+    }
+
+    public record Route(String exchange, String routingKey) {
+    }
+}
@@ -1,7 +1,8 @@
 import React, { useState } from 'react';
-import { Box, Card, CardContent, Typography, TextField, Button, Stack, Select, MenuItem, FormControl, InputLabel, Alert } from '@mui/material';
+import { Box, Card, CardContent, Typography, TextField, Button, Stack, Select, MenuItem, FormControl, InputLabel, Alert, LinearProgress } from '@mui/material';
 import SendIcon from '@mui/icons-material/Send';
 import DeleteIcon from '@mui/icons-material/Delete';
+import StopIcon from '@mui/icons-material/Stop';
 import { SystemType, MessageFormat, BulkMessageRequest } from '../../types';
 import { CHART_COLORS } from '../../utils/constants';
 import MessageList from './MessageList';
@@ -20,6 +21,8 @@ const MessagingPanel: React.FC<MessagingPanelProps> = ({ system, messaging }) =>
 
   const systemColor = system === 'rabbitmq' ? CHART_COLORS.RABBITMQ : CHART_COLORS.KAFKA;
   const systemName = system === 'rabbitmq' ? 'RabbitMQ' : 'Kafka';
+  const bulkJob = messaging.bulkJob;
+  const bulkRunning = bulkJob?.status === 'RUNNING';
 
   const handleSendSingle = async () => {
     if (!singleMessage.trim()) return;
@@ -120,12 +123,37 @@ const MessagingPanel: React.FC<MessagingPanelProps> = ({ system, messaging }) =>
               variant="contained"
               startIcon={<SendIcon />}
               onClick={handleSendBulk}
-              disabled={messaging.isSending}
+              disabled={messaging.isSending || bulkRunning}
               fullWidth
               sx={{ bgcolor: systemColor, '&:hover': { bgcolor: systemColor, opacity: 0.9 } }}
             >
               Send {bulkCount} Messages
             </Button>
+            {bulkJob && (
+              <Box>
+                <Stack direction="row" justifyContent="space-between" alignItems="center" sx={{ mb: 1 }}>
+                  <Typography variant="body2" color="text.secondary">
+                    {bulkJob.status}: {bulkJob.successCount} sent, {bulkJob.failCount} failed
+                    of {bulkJob.totalMessages}
+                  </Typography>
+                  {bulkRunning && (
+                    <Button size="small" startIcon={<StopIcon />} onClick={messaging.cancelBulkJob}>
+                      Cancel
+                    </Button>
+                  )}
+                </Stack>
+                <LinearProgress
+                  variant="determinate"
+                  value={Math.min(100, bulkJob.progressPercent)}
+                  sx={{ '& .MuiLinearProgress-bar': { bgcolor: systemColor } }}
+                />
+                {bulkJob.error && (
+                  <Typography variant="caption" color="error">
+                    {bulkJob.error}
+                  </Typography>
+                )}
+              </Box>
+            )}
           </Stack>
         </CardContent>
       </Card>
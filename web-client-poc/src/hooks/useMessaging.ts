@@ -7,7 +7,7 @@ import {
   Message,
   MessageFormat,
   BulkMessageRequest,
-  BulkMessageResponse,
+  BulkJob,
   MessageSendResponse,
 } from '../types';
 
@@ -44,6 +44,9 @@ export const useMessaging = ({ system }: UseMessagingOptions) => {
   const chartData = useStore((state) =>
     system === 'rabbitmq' ? state.rabbitmq.chartData : state.kafka.chartData
   );
+  const bulkJob = useStore((state) =>
+    system === 'rabbitmq' ? state.rabbitmq.bulkJob : state.kafka.bulkJob
+  );
 
   // Get actions from store
   const setMessages = useStore((state) =>
@@ -61,6 +64,9 @@ export const useMessaging = ({ system }: UseMessagingOptions) => {
   const setError = useStore((state) =>
     system === 'rabbitmq' ? state.setRabbitMQError : state.setKafkaError
   );
+  const setBulkJob = useStore((state) =>
+    system === 'rabbitmq' ? state.setRabbitMQBulkJob : state.setKafkaBulkJob
+  );
 
   /**
    * Send a single message
@@ -94,17 +100,18 @@ export const useMessaging = ({ system }: UseMessagingOptions) => {
   );
 
   /**
-   * Send bulk messages
+   * Send bulk messages as a background job; BULK_JOB_* events update its progress
    */
   const sendBulkMessages = useCallback(
-    async (request: BulkMessageRequest): Promise<BulkMessageResponse | null> => {
+    async (request: BulkMessageRequest): Promise<BulkJob | null> => {
       setIsSending(true);
       setSendError(null);
 
       try {
-        const response = await api.sendBulkMessages(request);
-        console.log(`[useMessaging] Sent ${response.successCount} bulk messages to ${system}`);
-        return response;
+        const job = await api.submitBulkJob(request);
+        setBulkJob(job);
+        console.log(`[useMessaging] Submitted bulk job ${job.jobId} to ${system}: ${job.totalMessages} messages`);
+        return job;
       } catch (error) {
         const errorMessage = error instanceof Error ? error.message : 'Failed to send bulk messages';
         console.error(`[useMessaging] Error sending bulk messages to ${system}:`, error);
@@ -115,9 +122,24 @@ export const useMessaging = ({ system }: UseMessagingOptions) => {
         setIsSending(false);
       }
     },
-    [system, api, setError]
+    [system, api, setError, setBulkJob]
   );
 
+  /**
+   * Cancel the running bulk job
+   */
+  const cancelBulkJob = useCallback(async () => {
+    if (!bulkJob) return;
+    try {
+      setBulkJob(await api.cancelBulkJob(bulkJob.jobId));
+      console.log(`[useMessaging] Cancelled bulk job ${bulkJob.jobId} on ${system}`);
+    } catch (error) {
+      const errorMessage = error instanceof Error ? error.message : 'Failed to cancel bulk job';
+      console.error(`[useMessaging] Error cancelling bulk job on ${system}:`, error);
+      setError(errorMessage);
+    }
+  }, [system, api, bulkJob, setBulkJob, setError]);
+
   /**
    * Fetch received messages from API
    */
@@ -221,12 +243,14 @@ export const useMessaging = ({ system }: UseMessagingOptions) => {
     isLoading,
     error,
     chartData,
+    bulkJob,
     isSending,
     sendError,
 
     // Actions
     sendMessage,
     sendBulkMessages,
+    cancelBulkJob,
     fetchReceivedMessages,
     clearMessages: handleClearMessages,
     fetchStats,
@@ -27,6 +27,9 @@ export const useWebSocket = ({ system, enabled = true }: UseWebSocketOptions) =>
   const setError = useStore((state) =>
     system === 'rabbitmq' ? state.setRabbitMQError : state.setKafkaError
   );
+  const setBulkJob = useStore((state) =>
+    system === 'rabbitmq' ? state.setRabbitMQBulkJob : state.setKafkaBulkJob
+  );
 
   useEffect(() => {
     if (!enabled) return;
@@ -47,6 +50,12 @@ export const useWebSocket = ({ system, enabled = true }: UseWebSocketOptions) =>
             });
             subscriptionIds.current.push(messagesSubId);
 
+            // Subscribe to journal replays
+            const replaySubId = wsManager.subscribeToReplay(system, (message) => {
+              addMessage(message);
+            });
+            subscriptionIds.current.push(replaySubId);
+
             // Subscribe to stats
             const statsSubId = wsManager.subscribeToStats(system, (stats) => {
               updateStats(stats);
@@ -59,8 +68,12 @@ export const useWebSocket = ({ system, enabled = true }: UseWebSocketOptions) =>
             });
             subscriptionIds.current.push(statsSubId);
 
-            // Subscribe to events (optional)
+            // Subscribe to events; bulk job events drive the progress display
             const eventsSubId = wsManager.subscribeToEvents(system, (event) => {
+              if (typeof event !== 'string' && event.type?.startsWith('BULK_JOB_')) {
+                setBulkJob(event.job);
+                return;
+              }
               console.log(`[useWebSocket] ${system} event:`, event);
             });
             subscriptionIds.current.push(eventsSubId);
@@ -91,7 +104,7 @@ export const useWebSocket = ({ system, enabled = true }: UseWebSocketOptions) =>
       });
       subscriptionIds.current = [];
     };
-  }, [system, enabled, addMessage, updateStats, addChartData, setWSConnected, setError]);
+  }, [system, enabled, addMessage, updateStats, addChartData, setWSConnected, setError, setBulkJob]);
 
   return {
     isConnected: wsManager.isConnected(system),
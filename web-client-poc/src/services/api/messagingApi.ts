@@ -3,7 +3,7 @@ import {
   Message,
   MessageSendResponse,
   BulkMessageRequest,
-  BulkMessageResponse,
+  BulkJob,
   MessageStats,
   ReceivedMessagesResponse,
   HealthStatus,
@@ -18,7 +18,8 @@ import {
 export interface MessagingApiClient {
   // Message operations
   sendMessage(message: Partial<Message>): Promise<MessageSendResponse>;
-  sendBulkMessages(request: BulkMessageRequest): Promise<BulkMessageResponse>;
+  submitBulkJob(request: BulkMessageRequest): Promise<BulkJob>;
+  cancelBulkJob(jobId: string): Promise<BulkJob>;
   getReceivedMessages(limit?: number): Promise<ReceivedMessagesResponse>;
   clearMessages(): Promise<ClearMessagesResponse>;
 
@@ -43,16 +44,22 @@ export const createMessagingApi = (client: AxiosInstance): MessagingApiClient =>
     return response.data;
   },
 
-  // Send bulk messages
-  async sendBulkMessages(request: BulkMessageRequest): Promise<BulkMessageResponse> {
-    const response = await client.post<BulkMessageResponse>('/api/messages/send-bulk', request);
+  // Start a background bulk send; progress arrives as BULK_JOB_* events
+  async submitBulkJob(request: BulkMessageRequest): Promise<BulkJob> {
+    const response = await client.post<BulkJob>('/api/messages/bulk-jobs', request);
+    return response.data;
+  },
+
+  // Cancel a running bulk job
+  async cancelBulkJob(jobId: string): Promise<BulkJob> {
+    const response = await client.delete<BulkJob>(`/api/messages/bulk-jobs/${jobId}`);
     return response.data;
   },
 
   // Get received messages
-  async getReceivedMessages(limit: number = 100): Promise<ReceivedMessagesResponse> {
+  async getReceivedMessages(limit: number = 100, since?: number, before?: number): Promise<ReceivedMessagesResponse> {
     const response = await client.get<ReceivedMessagesResponse>('/api/messages/received', {
-      params: { limit },
+      params: { limit, since, before },
     });
     return response.data;
   },
@@ -1,6 +1,6 @@
 import { WebSocketClient } from './WebSocketClient';
 import { RABBITMQ_WS_URL, KAFKA_WS_URL, WS_TOPICS } from '../../utils/constants';
-import { Message, MessageStats } from '../../types';
+import { Message, MessageStats, BulkJobEvent } from '../../types';
 
 export type SystemType = 'rabbitmq' | 'kafka';
 
@@ -99,7 +99,21 @@ export class WebSocketManager {
    */
   subscribeToMessages(system: SystemType, callback: (message: Message) => void): string {
     const client = this.getClient(system);
-    return client.subscribe(WS_TOPICS.MESSAGES, callback);
+    // The backend forwards consumed messages in batches (JSON arrays)
+    return client.subscribe(WS_TOPICS.MESSAGES, (payload: Message | Message[]) => {
+      (Array.isArray(payload) ? payload : [payload]).forEach(callback);
+    });
+  }
+
+  /**
+   * Subscribe to replay topic
+   */
+  subscribeToReplay(system: SystemType, callback: (message: Message) => void): string {
+    const client = this.getClient(system);
+    // Journal replays arrive as paced JSON arrays, separate from live messages
+    return client.subscribe(WS_TOPICS.REPLAY, (payload: Message | Message[]) => {
+      (Array.isArray(payload) ? payload : [payload]).forEach(callback);
+    });
   }
 
   /**
@@ -113,7 +127,7 @@ export class WebSocketManager {
   /**
    * Subscribe to events topic
    */
-  subscribeToEvents(system: SystemType, callback: (event: string) => void): string {
+  subscribeToEvents(system: SystemType, callback: (event: string | BulkJobEvent) => void): string {
     const client = this.getClient(system);
     return client.subscribe(WS_TOPICS.EVENTS, callback);
   }
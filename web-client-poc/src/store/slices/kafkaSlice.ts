@@ -1,5 +1,5 @@
 import { StateCreator } from 'zustand';
-import { Message, MessageStats, HealthStatus, ChartDataPoint } from '../../types';
+import { Message, MessageStats, HealthStatus, ChartDataPoint, BulkJob } from '../../types';
 import { SystemState, initialSystemState } from './types';
 import { MAX_MESSAGES, CHART_MAX_DATA_POINTS } from '../../utils/constants';
 
@@ -21,6 +21,9 @@ export interface KafkaSlice {
   // Connection actions
   setKafkaWSConnected: (connected: boolean) => void;
 
+  // Bulk job actions
+  setKafkaBulkJob: (job: BulkJob | null) => void;
+
   // Loading and error actions
   setKafkaLoading: (loading: boolean) => void;
   setKafkaError: (error: string | null) => void;
@@ -109,6 +112,15 @@ export const createKafkaSlice: StateCreator<KafkaSlice> = (set) => ({
       },
     })),
 
+  // Set the latest bulk job snapshot
+  setKafkaBulkJob: (job) =>
+    set((state) => ({
+      kafka: {
+        ...state.kafka,
+        bulkJob: job,
+      },
+    })),
+
   // Set loading state
   setKafkaLoading: (loading) =>
     set((state) => ({
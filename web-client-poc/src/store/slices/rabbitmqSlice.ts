@@ -1,5 +1,5 @@
 import { StateCreator } from 'zustand';
-import { Message, MessageStats, HealthStatus, ChartDataPoint } from '../../types';
+import { Message, MessageStats, HealthStatus, ChartDataPoint, BulkJob } from '../../types';
 import { SystemState, initialSystemState } from './types';
 import { MAX_MESSAGES, CHART_MAX_DATA_POINTS } from '../../utils/constants';
 
@@ -21,6 +21,9 @@ export interface RabbitMQSlice {
   // Connection actions
   setRabbitMQWSConnected: (connected: boolean) => void;
 
+  // Bulk job actions
+  setRabbitMQBulkJob: (job: BulkJob | null) => void;
+
   // Loading and error actions
   setRabbitMQLoading: (loading: boolean) => void;
   setRabbitMQError: (error: string | null) => void;
@@ -109,6 +112,15 @@ export const createRabbitMQSlice: StateCreator<RabbitMQSlice> = (set) => ({
       },
     })),
 
+  // Set the latest bulk job snapshot
+  setRabbitMQBulkJob: (job) =>
+    set((state) => ({
+      rabbitmq: {
+        ...state.rabbitmq,
+        bulkJob: job,
+      },
+    })),
+
   // Set loading state
   setRabbitMQLoading: (loading) =>
     set((state) => ({
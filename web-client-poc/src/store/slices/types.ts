@@ -1,4 +1,4 @@
-import { Message, MessageStats, HealthStatus, ChartDataPoint } from '../../types';
+import { Message, MessageStats, HealthStatus, ChartDataPoint, BulkJob } from '../../types';
 
 // System state for RabbitMQ or Kafka
 export interface SystemState {
@@ -9,6 +9,7 @@ export interface SystemState {
   isLoading: boolean;
   error: string | null;
   chartData: ChartDataPoint[];
+  bulkJob: BulkJob | null;
 }
 
 // UI state
@@ -32,6 +33,7 @@ export const initialSystemState: SystemState = {
   isLoading: false,
   error: null,
   chartData: [],
+  bulkJob: null,
 };
 
 // Initial UI state
@@ -9,8 +9,7 @@ export interface Message {
   messageId: string;
   content: string;
   format: MessageFormat;
-  routingKey?: string; // RabbitMQ specific
-  topic?: string; // Kafka specific
+  destination?: string; // Kafka topic or RabbitMQ routing key
   timestamp: number; // Epoch milliseconds
   receivedAt?: number; // Epoch milliseconds, set when received
 }
@@ -22,12 +21,26 @@ export interface MessageSendResponse {
   success: boolean;
 }
 
+// Generated bulk payloads; replaces messageTemplate when set
+export interface PayloadSpec {
+  sizeProfile?: 'FIXED' | 'UNIFORM' | 'RECORDED';
+  sizeBytes?: number;
+  minBytes?: number;
+  maxBytes?: number;
+  recordedSizes?: number[];
+  content?: 'RANDOM' | 'COMPRESSIBLE' | 'JSON';
+  jsonDepth?: number;
+  poolSize?: number;
+  seed?: number;
+}
+
 // Bulk message request
 export interface BulkMessageRequest {
   count: number;
   messageTemplate: string; // Supports {index} placeholder
   format: MessageFormat;
   delayMs?: number; // Delay between messages
+  payload?: PayloadSpec;
 }
 
 // Bulk message response
@@ -38,3 +51,25 @@ export interface BulkMessageResponse {
   durationMs: number;
   throughput: number; // Messages per second
 }
+
+// Background bulk send job, submitted with POST /api/messages/bulk-jobs
+export type JobStatus = 'RUNNING' | 'COMPLETED' | 'CANCELLED' | 'FAILED';
+
+export interface BulkJob {
+  jobId: string;
+  status: JobStatus;
+  totalMessages: number;
+  successCount: number;
+  failCount: number;
+  progressPercent: number;
+  startedAt: number;
+  finishedAt?: number;
+  result?: BulkMessageResponse;
+  error?: string;
+}
+
+// Published on /topic/events while a bulk job runs and once when it finishes
+export interface BulkJobEvent {
+  type: 'BULK_JOB_PROGRESS' | 'BULK_JOB_FINISHED';
+  job: BulkJob;
+}
@@ -11,6 +11,9 @@ export interface MessageStats {
 export interface ReceivedMessagesResponse {
   messages: import('./message').Message[];
   total: number;
+  cursor: number;
+  before: number;
+  hasMore: boolean;
 }
 
 // Chart data point for time series visualization
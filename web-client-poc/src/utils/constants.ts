@@ -16,6 +16,7 @@ export const WS_TOPICS = {
   MESSAGES: '/topic/messages',
   STATS: '/topic/stats',
   EVENTS: '/topic/events',
+  REPLAY: '/topic/replay',
 } as const;
 
 // Tab values